@@ -46,10 +46,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
 import javax.swing.DefaultComboBoxModel;
 import javax.swing.JOptionPane;
 import javax.swing.JTable;
 import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
 import javax.swing.table.DefaultTableCellRenderer;
 import mage.MageObject;
 import mage.ObjectColor;
@@ -75,6 +77,7 @@ import mage.filter.predicate.mageobject.ColorlessPredicate;
 import mage.filter.predicate.other.CardTextPredicate;
 import mage.filter.predicate.other.ExpansionSetPredicate;
 import mage.view.CardsView;
+import org.apache.log4j.Logger;
 
 
 /**
@@ -83,10 +86,13 @@ import mage.view.CardsView;
  */
 public class CardSelector extends javax.swing.JPanel implements ComponentListener {
 
+    private static final Logger logger = Logger.getLogger(CardSelector.class);
+
     private final List<Card> cards = new ArrayList<Card>();
     private BigCard bigCard;
     private boolean limited = false;
     private SortSetting sortSetting;
+    private FilterCardsTask filterTask;
 
     private final ActionListener searchAction = new ActionListener() {
         @Override
@@ -319,33 +325,88 @@ public class CardSelector extends javax.swing.JPanel implements ComponentListene
 
     private void filterCards() {
         FilterCard filter = buildFilter();
-        try {
-            List<Card> filteredCards = new ArrayList<Card>();
-            setCursor(new Cursor(Cursor.WAIT_CURSOR));
-            if (limited) {
+        // a newer search replaces a still running one
+        if (filterTask != null) {
+            filterTask.cancel(false);
+            filterTask = null;
+        }
+        if (limited) {
+            try {
+                List<Card> filteredCards = new ArrayList<Card>();
+                setCursor(new Cursor(Cursor.WAIT_CURSOR));
                 for (Card card: cards) {
                     if (filter.match(card, null)) {
                         filteredCards.add(card);
                     }
                 }
+                showCards(filteredCards);
             }
-            else {
-                List<CardInfo> foundCards = CardRepository.instance.findCards(buildCriteria());
-                for (CardInfo cardInfo : foundCards) {
+            finally {
+                setCursor(new Cursor(Cursor.DEFAULT_CURSOR));
+            }
+        }
+        else {
+            setCursor(new Cursor(Cursor.WAIT_CURSOR));
+            filterTask = new FilterCardsTask(buildCriteria(), filter, new CardTextPredicate(jTextFieldSearch.getText().trim()));
+            filterTask.execute();
+        }
+    }
+
+    private void showCards(List<Card> filteredCards) {
+        if (currentView instanceof CardGrid && filteredCards.size() > CardGrid.MAX_IMAGES) {
+            this.toggleViewMode();
+        }
+        this.currentView.loadCards(new CardsView(filteredCards), sortSetting, bigCard, null, false);
+        this.cardCount.setText(String.valueOf(filteredCards.size()));
+    }
+
+    /**
+     * Searches the card repository outside of the event dispatch thread.
+     * The search text is checked on the card infos first, so mock cards
+     * are only created for cards that can match.
+     */
+    private class FilterCardsTask extends SwingWorker<List<Card>, Void> {
+
+        private final CardCriteria criteria;
+        private final FilterCard filter;
+        private final CardTextPredicate textPredicate;
+
+        FilterCardsTask(CardCriteria criteria, FilterCard filter, CardTextPredicate textPredicate) {
+            this.criteria = criteria;
+            this.filter = filter;
+            this.textPredicate = textPredicate;
+        }
+
+        @Override
+        protected List<Card> doInBackground() throws Exception {
+            List<Card> filteredCards = new ArrayList<Card>();
+            for (CardInfo cardInfo : CardRepository.instance.findCards(criteria)) {
+                if (isCancelled()) {
+                    break;
+                }
+                if (textPredicate.match(cardInfo.getName(), cardInfo.getRules(), cardInfo.getSubTypes())) {
                     Card card = cardInfo.getMockCard();
                     if (filter.match(card, null)) {
                         filteredCards.add(card);
                     }
-                }                
-            }
-            if (currentView instanceof CardGrid && filteredCards.size() > CardGrid.MAX_IMAGES) {
-                this.toggleViewMode();
+                }
             }
-            this.currentView.loadCards(new CardsView(filteredCards), sortSetting, bigCard, null, false);
-            this.cardCount.setText(String.valueOf(filteredCards.size()));
+            return filteredCards;
         }
-        finally {
-            setCursor(new Cursor(Cursor.DEFAULT_CURSOR));
+
+        @Override
+        protected void done() {
+            if (isCancelled() || filterTask != this) {
+                return;
+            }
+            filterTask = null;
+            try {
+                showCards(get());
+            } catch (InterruptedException | ExecutionException ex) {
+                logger.fatal("Filter cards error", ex);
+            } finally {
+                setCursor(new Cursor(Cursor.DEFAULT_CURSOR));
+            }
         }
     }
 
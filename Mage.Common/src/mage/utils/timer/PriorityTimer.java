@@ -8,12 +8,19 @@ import java.util.Timer;
 import java.util.TimerTask;
 
 /**
+ * Counts down the priority time of a player.
+ *
+ * All priority timers are ticked by one shared timer thread, so the actions
+ * on tick and on timeout must not block.
+ *
  * @author noxx
  */
 public class PriorityTimer extends TimerTask {
 
     private static final Logger logger = Logger.getLogger(PriorityTimer.class);
 
+    private static final Timer timer = new Timer("Priority Timer", true);
+
     private int count;
 
     private long delay;
@@ -40,7 +47,6 @@ public class PriorityTimer extends TimerTask {
 
     public void init() {
         state = States.INIT;
-        Timer timer = new Timer("Priority Timer", false);
         long delayMs = delay * (int) (1000L / delay);
         timer.scheduleAtFixedRate(this, delayMs, delayMs);
     }
@@ -62,6 +68,7 @@ public class PriorityTimer extends TimerTask {
     public void stop() {
         state = States.FINISHED;
         count = 0;
+        cancel();
     }
 
     public void resume() {
@@ -90,8 +97,9 @@ public class PriorityTimer extends TimerTask {
             if (taskOnTick != null) {
                 try {
                     taskOnTick.execute();
-                } catch (MageException e) {
-                    throw new RuntimeException(e);
+                } catch (Exception e) {
+                    // the timer thread is shared, so it must survive a failing task
+                    logger.error("Priority timer tick failed", e);
                 }
             }
         }
@@ -103,8 +111,8 @@ public class PriorityTimer extends TimerTask {
             cancel();
             try {
                 taskOnTimeout.execute();
-            } catch (MageException e) {
-                throw new RuntimeException(e);
+            } catch (Exception e) {
+                logger.error("Priority timer timeout action failed", e);
             }
         }
     }
@@ -146,15 +146,15 @@ public class CardView extends SimpleCardView {
             this.isSplitCard = true;
             leftSplitName = splitCard.getLeftHalfCard().getName();
             leftSplitCosts = splitCard.getLeftHalfCard().getManaCost();
-            leftSplitRules = splitCard.getLeftHalfCard().getRules();
+            leftSplitRules = RulesCache.getRules(splitCard.getLeftHalfCard());
             rightSplitName = splitCard.getRightHalfCard().getName();
             rightSplitCosts = splitCard.getRightHalfCard().getManaCost();
-            rightSplitRules = splitCard.getRightHalfCard().getRules();
+            rightSplitRules = RulesCache.getRules(splitCard.getRightHalfCard());
         }
 
         this.name = card.getImageName();
         this.displayName = card.getName();
-        this.rules = card.getRules();
+        this.rules = RulesCache.getRules(card);
         this.manaCost = card.getManaCost().getSymbols();
         this.convertedManaCost = card.getManaCost().convertedManaCost();
 
@@ -200,7 +200,7 @@ public class CardView extends SimpleCardView {
             }
             //
             // set code und card number for token copies to get the image
-            this.rules = ((PermanentToken) card).getRules();
+            this.rules = RulesCache.getRules((PermanentToken) card);
             this.type = ((PermanentToken)card).getToken().getTokenType();
         } else {
             this.rarity = card.getRarity();
@@ -271,7 +271,7 @@ public class CardView extends SimpleCardView {
             PermanentToken permanentToken = (PermanentToken) object;
             this.rarity = Rarity.COMMON;
             this.expansionSetCode = permanentToken.getExpansionSetCode();
-            this.rules = permanentToken.getRules();
+            this.rules = RulesCache.getRules(permanentToken);
             this.type = permanentToken.getToken().getTokenType();
         } else if (object instanceof Emblem) {
             this.mageObjectType = MageObjectType.EMBLEM;
@@ -0,0 +1,93 @@
+/*
+ *  Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without modification, are
+ *  permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright notice, this list of
+ *        conditions and the following disclaimer.
+ *
+ *     2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *        of conditions and the following disclaimer in the documentation and/or other materials
+ *        provided with the distribution.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ *  WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ *  FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+ *  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ *  CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ *  ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ *  NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ *  ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *  The views and conclusions contained in the software and documentation are those of the
+ *  authors and should not be interpreted as representing official policies, either expressed
+ *  or implied, of BetaSteward_at_googlemail.com.
+ */
+
+
+package mage.view;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import mage.cards.Card;
+
+/**
+ * Keeps the rules text of the cards while the views of one game update are
+ * built. The game doesn't change during the update, so each card's rules
+ * only have to be generated once for all the players and watchers.
+ *
+ * Outside of an update the rules are generated for every view as before.
+ *
+ * @author BetaSteward_at_googlemail.com
+ */
+public class RulesCache {
+
+    private static final ThreadLocal<RulesCache> current = new ThreadLocal<RulesCache>();
+
+    private final Map<Card, List<String>> rules = new IdentityHashMap<Card, List<String>>();
+    private int depth;
+
+    /**
+     * Starts caching for the current thread. Each call has to be followed by
+     * a call of {@link #end()}, nested calls share the outermost cache.
+     */
+    public static void begin() {
+        RulesCache cache = current.get();
+        if (cache == null) {
+            cache = new RulesCache();
+            current.set(cache);
+        }
+        cache.depth++;
+    }
+
+    public static void end() {
+        RulesCache cache = current.get();
+        if (cache != null && --cache.depth == 0) {
+            current.remove();
+        }
+    }
+
+    /**
+     * Returns a copy of the rules of the card, views may add their own lines to it.
+     *
+     * @param card
+     * @return
+     */
+    public static List<String> getRules(Card card) {
+        RulesCache cache = current.get();
+        if (cache == null) {
+            return card.getRules();
+        }
+        List<String> cardRules = cache.rules.get(card);
+        if (cardRules == null) {
+            cardRules = card.getRules();
+            cache.rules.put(card, cardRules);
+        }
+        return new ArrayList<String>(cardRules);
+    }
+
+}
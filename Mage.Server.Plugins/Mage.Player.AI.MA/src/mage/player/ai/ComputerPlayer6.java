@@ -62,6 +62,8 @@ import mage.target.Targets;
 import java.io.File;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  *
@@ -70,7 +72,9 @@ import java.util.concurrent.*;
 public class ComputerPlayer6 extends ComputerPlayer<ComputerPlayer6> implements Player {
 
     private static final transient org.apache.log4j.Logger logger = org.apache.log4j.Logger.getLogger(ComputerPlayer6.class);
-    private static final ExecutorService pool = Executors.newFixedThreadPool(1);
+    // shared by all games, searches are served in the order they are submitted. Every player
+    // waits for its own search, so a game never has more than one search per AI player queued
+    private static final ExecutorService pool = Executors.newFixedThreadPool(Config2.maxThreads);
     protected int maxDepth;
     protected int maxNodes;
     protected int maxThink;
@@ -83,17 +87,30 @@ public class ComputerPlayer6 extends ComputerPlayer<ComputerPlayer6> implements
     private static final String FILE_WITH_INSTRUCTIONS = "config/ai.please.cast.this.txt";
     private List<String> suggested = new ArrayList<String>();
     protected Set<String> actionCache;
-    private static final List<TreeOptimizer> optimizers = new ArrayList<TreeOptimizer>();
+    // every player has its own optimizers, because the optimizers keep state during a search
+    private final List<TreeOptimizer> optimizers = createOptimizers();
     protected int lastLoggedTurn = 0;
-
-    static {
-        optimizers.add(new LevelUpOptimizer());
-        optimizers.add(new EquipOptimizer());
-        optimizers.add(new DiscardCardOptimizer());
-    }
+    private static final int TRANSPOSITION_TABLE_SIZE = 10000;
+    protected TranspositionTable transpositions;
+    // depth of the running iteration of the search
+    protected int searchDepth;
+    private volatile SimulationNode2 searchRoot;
+    private volatile SimulationNode2 completedRoot;
+    // held by a running search, a cancelled search has to end before the next one may start
+    // or its result is used, because all searches of a player share the fields above
+    private final ReentrantLock searchLock = new ReentrantLock();
 
     public ComputerPlayer6(String name, RangeOfInfluence range, int skill) {
         super(name, range);
+        init(skill);
+    }
+
+    protected ComputerPlayer6(UUID id, int skill) {
+        super(id);
+        init(skill);
+    }
+
+    private void init(int skill) {
         if (skill < 4) {
             maxDepth = 4;
         } else {
@@ -103,6 +120,7 @@ public class ComputerPlayer6 extends ComputerPlayer<ComputerPlayer6> implements
         maxNodes = Config2.maxNodes;
         getSuggestedActions();
         this.actionCache = new HashSet<String>();
+        this.transpositions = new TranspositionTable(TRANSPOSITION_TABLE_SIZE);
     }
 
     public ComputerPlayer6(final ComputerPlayer6 player) {
@@ -116,6 +134,7 @@ public class ComputerPlayer6 extends ComputerPlayer<ComputerPlayer6> implements
         this.targets.addAll(player.targets);
         this.choices.addAll(player.choices);
         this.actionCache = player.actionCache;
+        this.transpositions = player.transpositions;
     }
 
     @Override
@@ -123,6 +142,14 @@ public class ComputerPlayer6 extends ComputerPlayer<ComputerPlayer6> implements
         return new ComputerPlayer6(this);
     }
 
+    private static List<TreeOptimizer> createOptimizers() {
+        List<TreeOptimizer> list = new ArrayList<TreeOptimizer>();
+        list.add(new LevelUpOptimizer());
+        list.add(new EquipOptimizer());
+        list.add(new DiscardCardOptimizer());
+        return list;
+    }
+
     @Override
     public boolean priority(Game game) {
         logState(game);
@@ -264,7 +291,6 @@ public class ComputerPlayer6 extends ComputerPlayer<ComputerPlayer6> implements
     protected void calculateActions(Game game) {
         if (!getNextAction(game)) {
             Game sim = createSimulation(game);
-            SimulationNode2.resetCount();
             root = new SimulationNode2(null, sim, maxDepth, playerId);
             logger.info("simulating actions");
             //int bestScore = addActionsTimed(new FilterAbility());
@@ -294,11 +320,12 @@ public class ComputerPlayer6 extends ComputerPlayer<ComputerPlayer6> implements
                 test = root;
                 root = root.children.get(0);
             }
-            logger.trace("Sim getNextAction -- game value:" + game.getState().getValue(true) + " test value:" + test.gameValue);
+            long gameValue = game.getState().getStateHash(true, game);
+            logger.trace("Sim getNextAction -- game value:" + gameValue + " test value:" + test.gameValue);
             if (!suggested.isEmpty()) {
                 return false;
             }
-            if (root.playerId.equals(playerId) && root.abilities != null && game.getState().getValue(true).hashCode() == test.gameValue) {
+            if (root.playerId.equals(playerId) && root.abilities != null && gameValue == test.gameValue) {
 
                 /*
                  * // Try to fix horizon effect if (root.combat == null ||
@@ -334,8 +361,8 @@ public class ComputerPlayer6 extends ComputerPlayer<ComputerPlayer6> implements
                 //logger.info("alpha beta pruning");
                 break;
             }
-            if (SimulationNode2.nodeCount > maxNodes) {
-                //logger.info("simulating -- reached end-state, count=" + SimulationNode2.nodeCount);
+            if (node.getNodeCount() > maxNodes) {
+                //logger.info("simulating -- reached end-state, count=" + node.getNodeCount());
                 break;
             }
             int val = addActions(child, depth - 1, alpha, beta);
@@ -407,7 +434,7 @@ public class ComputerPlayer6 extends ComputerPlayer<ComputerPlayer6> implements
                         SimulationNode2 newNode = new SimulationNode2(node, sim, depth, ability.getControllerId());
                         node.children.add(newNode);
                         newNode.getTargets().add(targetId);
-                        logger.trace("Sim search -- node#: " + SimulationNode2.getCount() + " for player: " + sim.getPlayer(ability.getControllerId()).getName());
+                        logger.trace("Sim search -- node#: " + newNode.getNodeCount() + " for player: " + sim.getPlayer(ability.getControllerId()).getName());
                     }
                     return;
                 }
@@ -426,33 +453,125 @@ public class ComputerPlayer6 extends ComputerPlayer<ComputerPlayer6> implements
      * @return
      */
     protected Integer addActionsTimed() {
+        final CountDownLatch started = new CountDownLatch(1);
+        // set before the task is cancelled, a task that takes the lock after
+        // the cancel must not touch the fields the next search uses
+        final AtomicBoolean cancelled = new AtomicBoolean();
+        final Game game = root.getGame();
         FutureTask<Integer> task = new FutureTask<Integer>(new Callable<Integer>() {
             @Override
             public Integer call() throws Exception {
-                return addActions(root, maxDepth, Integer.MIN_VALUE, Integer.MAX_VALUE);
+                searchLock.lock();
+                try {
+                    if (cancelled.get()) {
+                        return 0;
+                    }
+                    started.countDown();
+                    transpositions.clear();
+                    searchRoot = null;
+                    completedRoot = null;
+                    return addActionsIterative(game);
+                } finally {
+                    searchLock.unlock();
+                }
             }
         });
+        long submitTime = System.currentTimeMillis();
         pool.execute(task);
         try {
+            // the think time starts when a search thread picks up the task,
+            // not while it's waiting behind the searches of other games
+            if (!started.await(maxThink, TimeUnit.SECONDS)) {
+                logger.info("simulating - no search thread available in " + maxThink + " seconds");
+                cancelled.set(true);
+                task.cancel(true);
+                awaitSearchEnd();
+                return 0;
+            }
+            long startTime = System.currentTimeMillis();
             logger.debug("maxThink: " + maxThink + " seconds");
-            return task.get(maxThink, TimeUnit.SECONDS);
+            Integer result = task.get(maxThink, TimeUnit.SECONDS);
+            useSearchResult();
+            if (logger.isDebugEnabled()) {
+                logger.debug("Search queue wait: " + (startTime - submitTime) + " ms, think time: " + (System.currentTimeMillis() - startTime) + " ms, nodes: " + root.getNodeCount());
+            }
+            return result;
         } catch (TimeoutException e) {
-            logger.info("simulating - timed out");
-            task.cancel(true);
+            logger.info("simulating - timed out at depth " + searchDepth);
         } catch (ExecutionException e) {
             e.printStackTrace();
-            task.cancel(true);
         } catch (InterruptedException e) {
             e.printStackTrace();
-            task.cancel(true);
         } catch (Exception e) {
             e.printStackTrace();
-            task.cancel(true);
         }
-        //TODO: timeout handling
+        cancelled.set(true);
+        task.cancel(true);
+        awaitSearchEnd();
+        useSearchResult();
         return 0;
     }
 
+    /**
+     * Waits until a cancelled search has stopped. The search checks for the
+     * interruption at every node, so this doesn't take long. A task that
+     * hasn't taken the lock yet sees its cancelled flag and ends without
+     * searching.
+     */
+    private void awaitSearchEnd() {
+        searchLock.lock();
+        searchLock.unlock();
+    }
+
+    /**
+     * Searches with increasing depth up to maxDepth. Every iteration works on
+     * its own copy of the game, so a search that runs out of time still
+     * leaves the result of the deepest completed iteration.
+     *
+     * @param game
+     * @return score of the deepest completed iteration
+     */
+    protected int addActionsIterative(Game game) {
+        int val = 0;
+        int nodeCount = 0;
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            searchDepth = depth;
+            SimulationNode2 node = new SimulationNode2(null, game.copy(), depth, playerId);
+            // maxNodes limits the whole search, so the nodes of the earlier iterations count as well
+            node.addNodeCount(nodeCount);
+            searchRoot = node;
+            int iterationVal = addActions(node, depth, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            nodeCount = node.getNodeCount();
+            if (nodeCount > maxNodes && completedRoot != null) {
+                // the iteration was cut by the node limit, the last complete one is used
+                break;
+            }
+            completedRoot = node;
+            val = iterationVal;
+            // a found win can't get better, but a deeper search may still find a way out of a loss
+            if (nodeCount > maxNodes || val == GameStateEvaluator2.WIN_GAME_SCORE) {
+                break;
+            }
+        }
+        return val;
+    }
+
+    /**
+     * Makes the result of the deepest completed iteration the new root. If no
+     * iteration completed in time, the best actions found so far by the
+     * running one are used.
+     */
+    private void useSearchResult() {
+        if (completedRoot != null) {
+            root = completedRoot;
+        } else if (searchRoot != null) {
+            root = searchRoot;
+        }
+    }
+
     protected int addActions(SimulationNode2 node, int depth, int alpha, int beta) {
         if (logger.isInfoEnabled() && node != null && node.getAbilities() != null && !node.getAbilities().toString().equals("[Pass]")) {
             logger.info("Add actions [" + depth + "] " + (node.getAbilities().toString() + " -- a: " + alpha + " b: " + beta));
@@ -465,8 +584,8 @@ public class ComputerPlayer6 extends ComputerPlayer<ComputerPlayer6> implements
             logger.trace("interrupted - " + val);
             return val;
         }
-        if (depth <= 0 || SimulationNode2.nodeCount > maxNodes || game.isGameOver()) {
-            logger.trace("Add actions -- reached end state, node count=" + SimulationNode2.nodeCount + ", depth=" + depth);
+        if (depth <= 0 || node.getNodeCount() > maxNodes || game.isGameOver()) {
+            logger.trace("Add actions -- reached end state, node count=" + node.getNodeCount() + ", depth=" + depth);
             val = GameStateEvaluator2.evaluate(playerId, game);
             UUID currentPlayerId = node.getGame().getPlayerList().get();
             //logger.info("reached - " + val + ", playerId=" + playerId + ", node.pid="+currentPlayerId);
@@ -508,13 +627,13 @@ public class ComputerPlayer6 extends ComputerPlayer<ComputerPlayer6> implements
             logger.info("interrupted");
             return GameStateEvaluator2.evaluate(playerId, game);
         }
-        node.setGameValue(game.getState().getValue(true).hashCode());
+        node.setGameValue(game.getState().getStateHash(true, game));
         SimulatedPlayer2 currentPlayer = (SimulatedPlayer2) game.getPlayer(game.getPlayerList().get());
         //logger.info("Sim Prio -- player " + currentPlayer.getName());
         SimulationNode2 bestNode = null;
         List<Ability> allActions = currentPlayer.simulatePriority(game);
         optimize(game, allActions);
-        if (logger.isInfoEnabled() && allActions.size() > 0 && depth == maxDepth) {
+        if (logger.isInfoEnabled() && allActions.size() > 0 && depth == searchDepth) {
             logger.info("Sim Prio [" + depth + "] player " + currentPlayer.getName() + " adding " + allActions.size() + " actions:" + allActions);
         }
         int counter = 0;
@@ -542,9 +661,23 @@ public class ComputerPlayer6 extends ComputerPlayer<ComputerPlayer6> implements
                 // int testVal = GameStateEvaluator2.evaluate(currentPlayer.getId(), sim);
 
                 sim.checkStateAndTriggered();
-                int val = addActions(newNode, depth - 1, alpha, beta);
+                // the same position can be reached by different orders of actions
+                long stateHash = getTranspositionKey(sim);
+                Integer knownVal = transpositions.get(stateHash, depth - 1);
+                int val;
+                // a known score is only used if it doesn't make this action the best one,
+                // otherwise the position is searched again to get the line of actions that follows it
+                if (knownVal != null && (currentPlayer.getId().equals(playerId) ? knownVal <= alpha : knownVal >= beta)) {
+                    val = knownVal;
+                } else {
+                    val = addActions(newNode, depth - 1, alpha, beta);
+                    // only values inside the alpha-beta window are exact
+                    if (val > alpha && val < beta && !Thread.currentThread().isInterrupted()) {
+                        transpositions.put(stateHash, depth - 1, val);
+                    }
+                }
 
-                if (logger.isInfoEnabled() && depth == maxDepth) {
+                if (logger.isInfoEnabled() && depth == searchDepth) {
                     StringBuilder sb = new StringBuilder("Sim Prio [").append(depth).append("] #").append(counter)
                             .append(" <").append(val).append("> (").append(action)
                             .append(action.isModal() ? " Mode = " + action.getModes().getMode().toString() : "")
@@ -573,7 +706,7 @@ public class ComputerPlayer6 extends ComputerPlayer<ComputerPlayer6> implements
                          * node.getTargets(); if (node.getChoices().size() > 0)
                          * choices = node.getChoices();
                          */
-                        if (depth == maxDepth) {
+                        if (depth == searchDepth) {
                             logger.info(new StringBuilder("Sim Prio [").append(depth).append("] -- Saved best node yet <").append(bestNode.getScore()).append("> ").append(bestNode.getAbilities().toString()).toString());
                             node.children.clear();
                             node.children.add(bestNode);
@@ -606,14 +739,14 @@ public class ComputerPlayer6 extends ComputerPlayer<ComputerPlayer6> implements
                     //logger.info("Sim Prio -- pruning");
                     break;
                 }
-                if (SimulationNode2.nodeCount > maxNodes) {
+                if (node.getNodeCount() > maxNodes) {
                     logger.debug("Sim Prio -- reached end-state");
                     break;
                 }
             }
         } // end of for (allActions)
-        if (depth == maxDepth) {
-            logger.info(new StringBuilder("Sim Prio [").append(depth).append("] -- End for Max Depth  -- Nodes calculated: ").append(SimulationNode2.nodeCount));
+        if (depth == searchDepth) {
+            logger.info(new StringBuilder("Sim Prio [").append(depth).append("] -- End for Max Depth  -- Nodes calculated: ").append(node.getNodeCount()));
         }
         if (bestNode != null) {
             node.children.clear();
@@ -643,6 +776,19 @@ public class ComputerPlayer6 extends ComputerPlayer<ComputerPlayer6> implements
         }
     }
 
+    /**
+     * Hash of the simulated game state including the player that acts next
+     *
+     * @param sim
+     * @return key for the transposition table
+     */
+    protected long getTranspositionKey(Game sim) {
+        UUID nextPlayerId = sim.getPlayerList().get();
+        long key = sim.getState().getStateHash(true, sim);
+        key = key * 31 + nextPlayerId.getMostSignificantBits();
+        return key * 31 + nextPlayerId.getLeastSignificantBits();
+    }
+
     /**
      * Various AI optimizations for actions.
      *
@@ -1241,7 +1387,7 @@ public class ComputerPlayer6 extends ComputerPlayer<ComputerPlayer6> implements
                 }
                 sim.fireEvent(GameEvent.getEvent(GameEvent.EventType.DECLARED_ATTACKERS, playerId, playerId));
                 SimulationNode2 newNode = new SimulationNode2(node, sim, node.getDepth() - 1, activePlayerId);
-                logger.debug("simulating -- node #:" + SimulationNode2.getCount() + " declare attakers");
+                logger.debug("simulating -- node #:" + newNode.getNodeCount() + " declare attakers");
                 newNode.setCombat(sim.getCombat());
                 node.children.add(newNode);
             }
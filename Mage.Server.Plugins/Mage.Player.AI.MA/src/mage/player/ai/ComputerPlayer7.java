@@ -169,7 +169,6 @@ public class ComputerPlayer7 extends ComputerPlayer6 {
         if (!getNextAction(game)) {
             currentScore = GameStateEvaluator2.evaluate(playerId, game);
             Game sim = createSimulation(game);
-            SimulationNode2.resetCount();
             root = new SimulationNode2(null, sim, maxDepth, playerId);
             
             addActionsTimed();
@@ -195,7 +194,6 @@ public class ComputerPlayer7 extends ComputerPlayer6 {
         if (!getNextAction(game)) {
             currentScore = GameStateEvaluator2.evaluate(playerId, game);
             Game sim = createSimulation(game);
-            SimulationNode2.resetCount();
             root = new SimulationNode2(null, sim, maxDepth, playerId);
             logger.debug("Sim Calculate post combat actions ----------------------------------------------------------------------------------------");
 
@@ -229,7 +227,7 @@ public class ComputerPlayer7 extends ComputerPlayer6 {
             return GameStateEvaluator2.evaluate(playerId, game);
         }
         // Condition to stop deeper simulation
-        if (depth <= 0 || SimulationNode2.nodeCount > maxNodes || game.isGameOver()) {           
+        if (depth <= 0 || node.getNodeCount() > maxNodes || game.isGameOver()) {           
             val = GameStateEvaluator2.evaluate(playerId, game);
             if (logger.isTraceEnabled()) {
                 StringBuilder sb = new StringBuilder("Add Actions -- reached end state  <").append(val).append(">");
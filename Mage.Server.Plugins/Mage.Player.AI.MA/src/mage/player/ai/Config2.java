@@ -47,6 +47,7 @@ public class Config2 {
 
 //    public static final int maxDepth;
     public static final int maxNodes;
+    public static final int maxThreads;
     public static final int evaluatorLifeFactor;
     public static final int evaluatorPermanentFactor;
     public static final int evaluatorCreatureFactor;
@@ -76,6 +77,7 @@ public class Config2 {
         }
 //        maxDepth = Integer.parseInt(p.getProperty("maxDepth"));
         maxNodes = Integer.parseInt(p.getProperty("maxNodes"));
+        maxThreads = Integer.parseInt(p.getProperty("maxThreads", Integer.toString(Runtime.getRuntime().availableProcessors())));
         evaluatorLifeFactor = Integer.parseInt(p.getProperty("evaluatorLifeFactor"));
         evaluatorPermanentFactor = Integer.parseInt(p.getProperty("evaluatorPermanentFactor"));
         evaluatorCreatureFactor = Integer.parseInt(p.getProperty("evaluatorCreatureFactor"));
@@ -59,12 +59,13 @@ public class SimulatedPlayer2 extends ComputerPlayer<SimulatedPlayer2> {
     private boolean isSimulatedPlayer;
     private transient ConcurrentLinkedQueue<Ability> allActions;
     private boolean forced;
-    private static PassAbility pass = new PassAbility();
+    private final PassAbility pass;
 
     private List<String> suggested;
 
     public SimulatedPlayer2(UUID id, boolean isSimulatedPlayer, List<String> suggested) {
         super(id);
+        pass = new PassAbility();
         pass.setControllerId(playerId);
         this.isSimulatedPlayer = isSimulatedPlayer;
         this.suggested = suggested;
@@ -72,6 +73,7 @@ public class SimulatedPlayer2 extends ComputerPlayer<SimulatedPlayer2> {
 
     public SimulatedPlayer2(final SimulatedPlayer2 player) {
         super(player);
+        this.pass = player.pass.copy();
         this.isSimulatedPlayer = player.isSimulatedPlayer;
         this.suggested = new ArrayList<String>();
         for (String s : player.suggested) {
@@ -423,7 +425,7 @@ public class SimulatedPlayer2 extends ComputerPlayer<SimulatedPlayer2> {
         ability.activate(sim, false);
         sim.applyEffects();
         SimulationNode2 newNode = new SimulationNode2(parent, sim, depth, playerId);
-        logger.debug("simulating -- node #:" + SimulationNode2.getCount() + " triggered ability option");
+        logger.debug("simulating -- node #:" + newNode.getNodeCount() + " triggered ability option");
         for (Target target: ability.getTargets()) {
             for (UUID targetId: target.getTargets()) {
                 newNode.getTargets().add(targetId);
@@ -42,10 +42,8 @@ import mage.game.combat.Combat;
  */
 public class SimulationNode2 implements Serializable {
 
-    protected static int nodeCount;
-
     protected Game game;
-    protected int gameValue;
+    protected long gameValue;
     protected int score;
     protected List<Ability> abilities;
     protected int depth;
@@ -55,6 +53,9 @@ public class SimulationNode2 implements Serializable {
     protected List<String> choices = new ArrayList<String>();
     protected UUID playerId;
     protected Combat combat;
+    // the node count of a search is kept in its root node
+    protected SimulationNode2 root;
+    protected int nodeCount;
 
     public SimulationNode2(SimulationNode2 parent, Game game, int depth, UUID playerId) {
         this.parent = parent;
@@ -62,7 +63,8 @@ public class SimulationNode2 implements Serializable {
         this.depth = depth;
         this.playerId = playerId;
         game.setCustomData(this);
-        nodeCount++;
+        this.root = parent == null ? this : parent.root;
+        root.nodeCount++;
     }
 
     public SimulationNode2(SimulationNode2 parent, Game game, List<Ability> abilities, int depth, UUID playerId) {
@@ -76,23 +78,35 @@ public class SimulationNode2 implements Serializable {
         abilities.add(ability);
     }
 
-    public static void resetCount() {
-        nodeCount = 0;
+    /**
+     * Returns the number of nodes created so far by the search this node
+     * belongs to
+     *
+     * @return
+     */
+    public int getNodeCount() {
+        return root.nodeCount;
     }
 
-    public static int getCount() {
-        return nodeCount;
+    /**
+     * Adds nodes that were created for the same search outside of this tree,
+     * e.g. by earlier iterations of an iterative deepening search
+     *
+     * @param count
+     */
+    public void addNodeCount(int count) {
+        root.nodeCount += count;
     }
 
     public Game getGame() {
         return this.game;
     }
 
-    public int getGameValue() {
+    public long getGameValue() {
         return this.gameValue;
     }
 
-    public void setGameValue(int value) {
+    public void setGameValue(long value) {
         this.gameValue = value;
     }
 
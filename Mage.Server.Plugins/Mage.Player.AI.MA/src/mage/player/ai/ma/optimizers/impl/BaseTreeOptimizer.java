@@ -43,12 +43,14 @@ public abstract class BaseTreeOptimizer implements TreeOptimizer {
             for (Ability r : toRemove) {
                 actions.remove(r);
             }
+            toRemove = null;
         }
     }
 
     /**
      * Mark an ability to be removed
-     * Not thread-safe for performance reasons.
+     * Not thread-safe for performance reasons, so an optimizer may only be
+     * used by one search at a time.
      *
      * @param ability
      */
@@ -71,7 +71,6 @@ import mage.players.net.UserData;
 import mage.players.net.UserGroup;
 import mage.target.*;
 import mage.target.common.*;
-import mage.util.Copier;
 import mage.util.TreeNode;
 import org.apache.log4j.Logger;
 
@@ -1809,12 +1808,11 @@ public class ComputerPlayer<T extends ComputerPlayer<T>> extends PlayerImpl<T> i
 
     protected void addBlockSimulations(List<Permanent> blockers, TreeNode<CombatSimulator> node, Game game) {
         int numGroups = node.getData().groups.size();
-        Copier<CombatSimulator> copier = new Copier<>();
         for (Permanent blocker: blockers) {
             List<Permanent> subList = remove(blockers, blocker);
             for (int i = 0; i < numGroups; i++) {
                 if (node.getData().groups.get(i).canBlock(blocker, game)) {
-                    CombatSimulator combat = copier.copy(node.getData());
+                    CombatSimulator combat = node.getData().copy();
                     combat.groups.get(i).blockers.add(new CreatureSimulator(blocker));
                     TreeNode<CombatSimulator> child = new TreeNode<>(combat);
                     node.addChild(child);
@@ -61,6 +61,23 @@ public class CombatGroupSimulator implements Serializable {
         attacker = this.attackers.get(0);
     }
 
+    public CombatGroupSimulator(final CombatGroupSimulator group) {
+        for (CreatureSimulator creature: group.attackers) {
+            this.attackers.add(creature.copy());
+        }
+        for (CreatureSimulator creature: group.blockers) {
+            this.blockers.add(creature.copy());
+        }
+        this.defenderId = group.defenderId;
+        this.defenderIsPlaneswalker = group.defenderIsPlaneswalker;
+        this.unblockedDamage = group.unblockedDamage;
+        this.attacker = this.attackers.get(group.attackers.indexOf(group.attacker));
+    }
+
+    public CombatGroupSimulator copy() {
+        return new CombatGroupSimulator(this);
+    }
+
     private boolean hasFirstOrDoubleStrike() {
         for (CreatureSimulator creature: attackers) {
             if (creature.hasDoubleStrike || creature.hasFirstStrike)
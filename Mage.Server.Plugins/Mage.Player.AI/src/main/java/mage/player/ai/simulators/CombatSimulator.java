@@ -76,6 +76,21 @@ public class CombatSimulator implements Serializable {
 
     public CombatSimulator() {}
 
+    public CombatSimulator(final CombatSimulator combat) {
+        for (CombatGroupSimulator group: combat.groups) {
+            this.groups.add(group.copy());
+        }
+        this.defenders.addAll(combat.defenders);
+        this.playersLife.putAll(combat.playersLife);
+        this.planeswalkerLoyalty.putAll(combat.planeswalkerLoyalty);
+        this.attackerId = combat.attackerId;
+        this.rating = combat.rating;
+    }
+
+    public CombatSimulator copy() {
+        return new CombatSimulator(this);
+    }
+
     public void clear() {
         groups.clear();
         defenders.clear();
@@ -58,6 +58,20 @@ public class CreatureSimulator implements Serializable {
         this.hasTrample = permanent.getAbilities().containsKey(TrampleAbility.getInstance().getId());
     }
 
+    public CreatureSimulator(final CreatureSimulator creature) {
+        this.id = creature.id;
+        this.damage = creature.damage;
+        this.power = creature.power;
+        this.toughness = creature.toughness;
+        this.hasFirstStrike = creature.hasFirstStrike;
+        this.hasDoubleStrike = creature.hasDoubleStrike;
+        this.hasTrample = creature.hasTrample;
+    }
+
+    public CreatureSimulator copy() {
+        return new CreatureSimulator(this);
+    }
+
     public boolean isDead() {
         return damage >= toughness;
     }
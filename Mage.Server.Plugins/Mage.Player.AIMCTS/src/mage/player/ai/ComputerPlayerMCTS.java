@@ -68,7 +68,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer<ComputerPlayerMCTS> imple
         super(name, range);
         human = false;
         maxThinkTime = (int) (skill * THINK_TIME_MULTIPLIER);
-        cores = Runtime.getRuntime().availableProcessors();
+        cores = ConfigMCTS.workerThreads;
         pool = Executors.newFixedThreadPool(cores);
     }
 
@@ -116,7 +116,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer<ComputerPlayerMCTS> imple
     protected void getNextAction(Game game, NextAction nextAction) {
         if (root != null) {
             MCTSNode newRoot;
-            newRoot = root.getMatchingState(game.getState().getValue(false, game));
+            newRoot = root.getMatchingState(game.getState().getStateHash(false, game));
             if (newRoot != null) {
                 newRoot.emancipate();
                 logger.info("choose action:" + newRoot.getAction() + " success ratio: " + newRoot.getWinRatio());
@@ -262,7 +262,20 @@ public class ComputerPlayerMCTS extends ComputerPlayer<ComputerPlayerMCTS> imple
         logger.info("applyMCTS - Thinking for " + (endTime - startTime)/1000000000.0 + "s");
 
         if (thinkTime > 0) {
-            if (USE_MULTIPLE_THREADS) {
+            if (USE_MULTIPLE_THREADS && ConfigMCTS.useSharedTree) {
+                List<MCTSExecutor> tasks = new ArrayList<MCTSExecutor>();
+                for (int i = 0; i < cores; i++) {
+                    tasks.add(new MCTSExecutor(root, playerId, thinkTime));
+                }
+
+                try {
+                    pool.invokeAll(tasks);
+                } catch (InterruptedException ex) {
+                    logger.warn("applyMCTS interrupted");
+                }
+                tasks.clear();
+            }
+            else if (USE_MULTIPLE_THREADS) {
                 List<MCTSExecutor> tasks = new ArrayList<MCTSExecutor>();
                 for (int i = 0; i < cores; i++) {
                     Game sim = createMCTSGame(game);
@@ -0,0 +1,67 @@
+/*
+ *  Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without modification, are
+ *  permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright notice, this list of
+ *        conditions and the following disclaimer.
+ *
+ *     2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *        of conditions and the following disclaimer in the documentation and/or other materials
+ *        provided with the distribution.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ *  WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ *  FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+ *  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ *  CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ *  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ *  ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ *  NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ *  ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *  The views and conclusions contained in the software and documentation are those of the
+ *  authors and should not be interpreted as representing official policies, either expressed
+ *  or implied, of BetaSteward_at_googlemail.com.
+ */
+
+package mage.player.ai;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.Properties;
+import org.apache.log4j.Logger;
+
+/**
+ * Settings of the MCTS player, read from AIMCTS.properties next to the plugin jar
+ *
+ * @author BetaSteward_at_googlemail.com
+ */
+public class ConfigMCTS {
+
+    private static final Logger logger = Logger.getLogger(ConfigMCTS.class);
+
+    public static final int workerThreads;
+    public static final boolean useSharedTree;
+
+    static {
+        Properties p = new Properties();
+        try {
+            File file = new File(ConfigMCTS.class.getProtectionDomain().getCodeSource().getLocation().toURI().getPath());
+            File propertiesFile = new File(file.getParent() + File.separator + "AIMCTS.properties");
+            if (propertiesFile.exists()) {
+                p.load(new FileInputStream(propertiesFile));
+            }
+        } catch (IOException ex) {
+            logger.error(null, ex);
+        } catch (URISyntaxException ex) {
+            logger.error(null, ex);
+        }
+        workerThreads = Math.max(1, Integer.parseInt(p.getProperty("workerThreads", Integer.toString(Runtime.getRuntime().availableProcessors())).trim()));
+        useSharedTree = Boolean.parseBoolean(p.getProperty("useSharedTree", "true").trim());
+    }
+
+}
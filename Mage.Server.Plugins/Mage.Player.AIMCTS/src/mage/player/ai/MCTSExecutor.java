@@ -41,6 +41,7 @@ public class MCTSExecutor implements Callable<Boolean> {
     protected transient MCTSNode root;
     protected int thinkTime;
     protected UUID playerId;
+    protected boolean sharedTree;
 
      private static final transient Logger logger = Logger.getLogger(ComputerPlayerMCTS.class);
 
@@ -50,6 +51,21 @@ public class MCTSExecutor implements Callable<Boolean> {
         root = new MCTSNode(sim);
     }
 
+    /**
+     * Creates a worker that searches the given tree together with other workers.
+     * Virtual losses are used to spread the workers over different nodes.
+     *
+     * @param root - the tree shared by all workers
+     * @param playerId
+     * @param thinkTime
+     */
+    public MCTSExecutor(MCTSNode root, UUID playerId, int thinkTime) {
+        this.playerId = playerId;
+        this.thinkTime = thinkTime;
+        this.root = root;
+        this.sharedTree = true;
+    }
+
     @Override
     public Boolean call() {
         int simCount = 0;
@@ -66,7 +82,7 @@ public class MCTSExecutor implements Callable<Boolean> {
 
             // Selection
             while (!current.isLeaf()) {
-                current = current.select(this.playerId);
+                current = select(current);
             }
 
             int result;
@@ -77,12 +93,12 @@ public class MCTSExecutor implements Callable<Boolean> {
                 // only run simulations for nodes that have siblings
                 if (current.getNumChildren() > 1) {
                     // Simulation
-                    current = current.select(this.playerId);
+                    current = select(current);
                     result = current.simulate(this.playerId);
                     simCount++;
                 }
                 else {
-                    current = current.select(this.playerId);
+                    current = select(current);
                     result = 0;
                 }
             }
@@ -90,12 +106,23 @@ public class MCTSExecutor implements Callable<Boolean> {
                 result = current.isWinner(this.playerId)?1:-1;
             }
             // Backpropagation
+            if (sharedTree) {
+                current.removeVirtualLoss();
+            }
             current.backpropagate(result);
         }
         logger.info("Simulated " + simCount + " games - nodes in tree: " + root.size());
         return true;
     }
 
+    private MCTSNode select(MCTSNode node) {
+        MCTSNode selected = node.select(this.playerId);
+        if (sharedTree) {
+            selected.addVirtualLoss();
+        }
+        return selected;
+    }
+
     public MCTSNode getRoot() {
         return root;
     }
@@ -31,6 +31,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
 import mage.abilities.Ability;
@@ -55,14 +56,15 @@ public class MCTSNode {
     private static final double passRatioTolerance = 0.0;
      private static final transient Logger logger = Logger.getLogger(MCTSNode.class);
 
-    private int visits = 0;
-    private int wins = 0;
+    // counters are shared by all workers searching the same tree
+    private final AtomicInteger visits = new AtomicInteger();
+    private final AtomicInteger wins = new AtomicInteger();
     private MCTSNode parent;
-    private List<MCTSNode> children = new ArrayList<MCTSNode>();
+    private volatile List<MCTSNode> children = new ArrayList<MCTSNode>();
     private Ability action;
     private Game game;
     private Combat combat;
-    private String stateValue;
+    private long stateHash;
     private UUID playerId;
     private boolean terminal = false;
 
@@ -70,7 +72,7 @@ public class MCTSNode {
 
     public MCTSNode(Game game) {
         this.game = game;
-        this.stateValue = game.getState().getValue(false, game);
+        this.stateHash = game.getState().getStateHash(false, game);
         this.terminal = game.isGameOver();
         setPlayer();
         nodeCount = 1;
@@ -78,7 +80,7 @@ public class MCTSNode {
 
     protected MCTSNode(MCTSNode parent, Game game, Ability action) {
         this.game = game;
-        this.stateValue = game.getState().getValue(false, game);
+        this.stateHash = game.getState().getStateHash(false, game);
         this.terminal = game.isGameOver();
         this.parent = parent;
         this.action = action;
@@ -89,7 +91,7 @@ public class MCTSNode {
     protected MCTSNode(MCTSNode parent, Game game, Combat combat) {
         this.game = game;
         this.combat = combat;
-        this.stateValue = game.getState().getValue(false, game);
+        this.stateHash = game.getState().getStateHash(false, game);
         this.terminal = game.isGameOver();
         this.parent = parent;
         setPlayer();
@@ -111,16 +113,20 @@ public class MCTSNode {
         double bestValue = Double.NEGATIVE_INFINITY;
         boolean isTarget = playerId.equals(targetPlayerId);
         MCTSNode bestChild = null;
-        if (children.size() == 1) {
-            return children.get(0);
+        List<MCTSNode> nodes = children;
+        if (nodes.size() == 1) {
+            return nodes.get(0);
         }
-        for (MCTSNode node: children) {
+        int parentVisits = visits.get();
+        for (MCTSNode node: nodes) {
             double uct;
-            if (node.visits > 0)
+            int nodeVisits = node.visits.get();
+            int nodeWins = node.wins.get();
+            if (nodeVisits > 0)
                 if (isTarget)
-                    uct = (node.wins / (node.visits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (node.visits)));
+                    uct = (nodeWins / (nodeVisits)) + (selectionCoefficient * Math.sqrt(Math.log(parentVisits) / (nodeVisits)));
                 else
-                    uct = ((node.visits - node.wins) / (node.visits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (node.visits)));
+                    uct = ((nodeVisits - nodeWins) / (nodeVisits)) + (selectionCoefficient * Math.sqrt(Math.log(parentVisits) / (nodeVisits)));
             else
                 // ensure that a random unvisited node is played first
                 uct = 10000 + 1000 * Math.random();
@@ -132,7 +138,16 @@ public class MCTSNode {
         return bestChild;
     }
 
-    public void expand() {
+    /**
+     * Expands the node with a child for each option of the player.
+     * If the node is shared by several workers only the first one expands it,
+     * the others will find the node already expanded.
+     */
+    public synchronized void expand() {
+        if (game == null) {
+            return;
+        }
+        List<MCTSNode> newChildren = new ArrayList<MCTSNode>();
         MCTSPlayer player = (MCTSPlayer) game.getPlayer(playerId);
         if (player.getNextAction() == null) {
             logger.fatal("next action is null");
@@ -147,7 +162,7 @@ public class MCTSNode {
                     MCTSPlayer simPlayer = (MCTSPlayer) sim.getPlayer(player.getId());
                     simPlayer.activateAbility((ActivatedAbility)ability, sim);
                     sim.resume();
-                    children.add(new MCTSNode(this, sim, ability));
+                    newChildren.add(new MCTSNode(this, sim, ability));
                 }
                 break;
             case SELECT_ATTACKERS:
@@ -161,7 +176,7 @@ public class MCTSNode {
                         simPlayer.declareAttacker(attackerId, defenderId, sim);
                     }
                     sim.resume();
-                    children.add(new MCTSNode(this, sim, sim.getCombat()));
+                    newChildren.add(new MCTSNode(this, sim, sim.getCombat()));
                 }
                 break;
             case SELECT_BLOCKERS:
@@ -179,16 +194,24 @@ public class MCTSNode {
                         }
                     }
                     sim.resume();
-                    children.add(new MCTSNode(this, sim, sim.getCombat()));
+                    newChildren.add(new MCTSNode(this, sim, sim.getCombat()));
                 }
                 break;
         }
+        children = newChildren;
         game = null;
     }
 
     public int simulate(UUID playerId) {
 //        long startTime = System.nanoTime();
-        Game sim = createSimulation(game, playerId);
+        Game sim;
+        synchronized (this) {
+            if (game == null) {
+                // expanded in the meantime by another worker
+                return 0;
+            }
+            sim = createSimulation(game, playerId);
+        }
         sim.resume();
 //        long duration = System.nanoTime() - startTime;
         int retVal = -1;  //anything other than a win is a loss
@@ -206,12 +229,32 @@ public class MCTSNode {
         if (result == 0)
             return;
         if (result == 1)
-            wins++;
-        visits++;
+            wins.incrementAndGet();
+        visits.incrementAndGet();
         if (parent != null)
             parent.backpropagate(result);
     }
 
+    /**
+     * Counts a visit without a win for this node before its simulation is finished,
+     * so other workers that descend the same tree in the meantime prefer other nodes
+     */
+    public void addVirtualLoss() {
+        visits.incrementAndGet();
+    }
+
+    /**
+     * Removes the virtual losses added by #addVirtualLoss() on the way from the
+     * root down to this node
+     */
+    public void removeVirtualLoss() {
+        MCTSNode node = this;
+        while (node.parent != null) {
+            node.visits.decrementAndGet();
+            node = node.parent;
+        }
+    }
+
     public boolean isLeaf() {
         return children.isEmpty();
     }
@@ -224,25 +267,26 @@ public class MCTSNode {
         boolean bestIsPass = false;
         MCTSNode bestChild = null;
         for (MCTSNode node: children) {
+            int nodeVisits = node.visits.get();
             //favour passing vs any other action except for playing land if ratio is close
-            if (node.visits > bestCount) {
+            if (nodeVisits > bestCount) {
                 if (bestIsPass) {
-                    double ratio = node.wins/(node.visits * 1.0);
+                    double ratio = node.wins.get()/(nodeVisits * 1.0);
                     if (ratio < bestRatio + passRatioTolerance)
                         continue;
                 }
                 bestChild = node;
-                bestCount = node.visits;
-                bestRatio = node.wins/(node.visits * 1.0);
+                bestCount = nodeVisits;
+                bestRatio = node.wins.get()/(nodeVisits * 1.0);
                 bestIsPass = false;
             }
-            else if (node.action instanceof PassAbility && node.visits > 10 && !(bestChild.action instanceof PlayLandAbility)) {
+            else if (node.action instanceof PassAbility && nodeVisits > 10 && !(bestChild.action instanceof PlayLandAbility)) {
                 //favour passing vs any other action if ratio is close
-                double ratio = node.wins/(node.visits * 1.0);
+                double ratio = node.wins.get()/(nodeVisits * 1.0);
                 if (ratio > bestRatio - passRatioTolerance) {
                     logger.info("choosing pass over " + bestChild.getAction());
                     bestChild = node;
-                    bestCount = node.visits;
+                    bestCount = nodeVisits;
                     bestRatio = ratio;
                     bestIsPass = true;
                 }
@@ -278,18 +322,19 @@ public class MCTSNode {
         return nodeCount;
     }
 
-    public String getStateValue() {
-        return stateValue;
+    public long getStateHash() {
+        return stateHash;
     }
 
     public double getWinRatio() {
-        if (visits > 0)
-            return wins/(visits * 1.0);
+        int nodeVisits = visits.get();
+        if (nodeVisits > 0)
+            return wins.get()/(nodeVisits * 1.0);
         return -1.0;
     }
 
     public int getVisits() {
-        return visits;
+        return visits.get();
     }
 
     /**
@@ -354,17 +399,16 @@ public class MCTSNode {
      * 
      * performs a breadth first search for a matching game state
      * 
-     * @param state - the game state that we are looking for
-     * @param nextAction - the next action that will be performed
+     * @param stateHash - hash of the game state that we are looking for
      * @return the matching state or null if no match is found
      */
-    public MCTSNode getMatchingState(String state) {
+    public MCTSNode getMatchingState(long stateHash) {
         ArrayDeque<MCTSNode> queue = new ArrayDeque<MCTSNode>();
         queue.add(this);
 
         while (!queue.isEmpty()) {
             MCTSNode current = queue.remove();
-            if (current.stateValue.equals(state))
+            if (current.stateHash == stateHash)
                 return current;
             for (MCTSNode child: current.children) {
                 queue.add(child);
@@ -374,13 +418,13 @@ public class MCTSNode {
     }
 
     public void merge(MCTSNode merge) {
-        if (!stateValue.equals(merge.stateValue)) {
+        if (stateHash != merge.stateHash) {
             logger.info("mismatched merge states");
             return;
         }
 
-        this.visits += merge.visits;
-        this.wins += merge.wins;
+        this.visits.addAndGet(merge.visits.get());
+        this.wins.addAndGet(merge.wins.get());
 
         List<MCTSNode> mergeChildren = new ArrayList<MCTSNode>();
         for (MCTSNode child: merge.children) {
@@ -391,7 +435,7 @@ public class MCTSNode {
             for (MCTSNode mergeChild: mergeChildren) {
                 if (mergeChild.action != null && child.action != null) {
                     if (mergeChild.action.toString().equals(child.action.toString())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
+                        if (mergeChild.stateHash != child.stateHash) {
                             logger.info("mismatched merge states");
                             mergeChildren.remove(mergeChild);
                         }
@@ -404,7 +448,7 @@ public class MCTSNode {
                 }
                 else {
                     if (mergeChild.combat.getValue().equals(child.combat.getValue())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
+                        if (mergeChild.stateHash != child.stateHash) {
                             logger.info("mismatched merge states");
                             mergeChildren.remove(mergeChild);
                         }
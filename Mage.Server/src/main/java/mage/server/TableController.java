@@ -635,6 +635,9 @@ public class TableController {
         this.matchEnd();
         table.closeTable();
         ChatManager.getInstance().destroyChatSession(chatId);
+        if (table.isTournamentSubTable() && table.getTournament() != null) {
+            table.getTournament().matchEnded();
+        }
     }
 
     private void matchEnd() {
@@ -30,7 +30,6 @@ package mage.server;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -49,6 +48,7 @@ import mage.game.tournament.TournamentOptions;
 import mage.players.Player;
 import mage.server.game.GameManager;
 import mage.server.game.GamesRoomManager;
+import mage.server.util.ThreadExecutor;
 import org.apache.log4j.Logger;
 
 
@@ -58,7 +58,7 @@ import org.apache.log4j.Logger;
  */
 public class TableManager {
 
-    protected static ScheduledExecutorService expireExecutor = Executors.newSingleThreadScheduledExecutor();
+    protected static ScheduledExecutorService expireExecutor = ThreadExecutor.getInstance().getTimeoutExecutor();
 
     private static final TableManager INSTANCE = new TableManager();
     private static final Logger logger = Logger.getLogger(TableManager.class);
@@ -33,9 +33,9 @@ import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import mage.server.util.ThreadExecutor;
 import mage.view.ChatMessage.MessageColor;
 import org.apache.log4j.Logger;
 
@@ -48,7 +48,7 @@ import org.apache.log4j.Logger;
  */
 public class UserManager {
 
-    protected static ScheduledExecutorService expireExecutor = Executors.newSingleThreadScheduledExecutor();
+    protected static ScheduledExecutorService expireExecutor = ThreadExecutor.getInstance().getTimeoutExecutor();
 
     private static final UserManager INSTANCE = new UserManager();
     private static final Logger logger = Logger.getLogger(UserManager.class);
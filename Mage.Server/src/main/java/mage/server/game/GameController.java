@@ -28,12 +28,7 @@
 
 package mage.server.game;
 
-import java.io.BufferedOutputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectOutput;
-import java.io.ObjectOutputStream;
-import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.HashSet;
@@ -45,7 +40,6 @@ import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
-import java.util.zip.GZIPOutputStream;
 import mage.MageException;
 import mage.abilities.Ability;
 import mage.cards.Card;
@@ -81,6 +75,7 @@ import mage.view.ChatMessage.MessageColor;
 import mage.view.ChatMessage.MessageType;
 import mage.view.GameView;
 import mage.view.PermanentView;
+import mage.view.RulesCache;
 import org.apache.log4j.Logger;
 
 
@@ -124,6 +119,9 @@ public class GameController implements GameCallback {
     }
 
     public void cleanUp() {
+        for (PriorityTimer timer: timers.values()) {
+            timer.cancel();
+        }
         ChatManager.getInstance().destroyChatSession(chatId);
     }
 
@@ -258,8 +256,14 @@ public class GameController implements GameCallback {
         PriorityTimer timer = new PriorityTimer(count, delay, new Action() {
             @Override
             public void execute() throws MageException {
-                game.concede(initPlayerId);
-                logger.debug("Game timeout for player: " + initPlayerId + ". Conceding.");
+                // don't block the shared timer thread while the game is busy
+                ThreadExecutor.getInstance().getCallExecutor().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        game.concede(initPlayerId);
+                        logger.debug("Game timeout for player: " + initPlayerId + ". Conceding.");
+                    }
+                });
             }
         });
         timers.put(playerId, timer);
@@ -487,14 +491,27 @@ public class GameController implements GameCallback {
                 }
             }
         }
-        for (final GameSession gameSession: gameSessions.values()) {
-            gameSession.update();
-        }
-        for (final GameWatcher gameWatcher: watchers.values()) {
-            gameWatcher.update();
+        RulesCache.begin();
+        try {
+            for (final GameSession gameSession: gameSessions.values()) {
+                gameSession.update();
+            }
+            if (!watchers.isEmpty()) {
+                // all watchers see the same public view, so it's only built once
+                GameView watcherView = getWatcherView();
+                for (final GameWatcher gameWatcher: watchers.values()) {
+                    gameWatcher.update(watcherView);
+                }
+            }
+        } finally {
+            RulesCache.end();
         }
     }
 
+    private GameView getWatcherView() {
+        return new GameView(game.getState(), game, false);
+    }
+
     private synchronized void endGameInfo() {
         Table table = TableManager.getInstance().getTable(tableId);
         if (table != null) {
@@ -627,13 +644,21 @@ public class GameController implements GameCallback {
             message.append(game.getStep().getType().toString()).append(" - ");
         }
         message.append("Waiting for ").append(game.getPlayer(playerId).getName());
-        for (final Entry<UUID, GameSession> entry: gameSessions.entrySet()) {
-            if (!entry.getKey().equals(playerId)) {
-                entry.getValue().inform(message.toString());
+        RulesCache.begin();
+        try {
+            for (final Entry<UUID, GameSession> entry: gameSessions.entrySet()) {
+                if (!entry.getKey().equals(playerId)) {
+                    entry.getValue().inform(message.toString());
+                }
             }
-        }
-        for (final GameWatcher watcher: watchers.values()) {
-            watcher.inform(message.toString());
+            if (!watchers.isEmpty()) {
+                GameView watcherView = getWatcherView();
+                for (final GameWatcher watcher: watchers.values()) {
+                    watcher.inform(message.toString(), watcherView);
+                }
+            }
+        } finally {
+            RulesCache.end();
         }
     }
 
@@ -647,20 +672,28 @@ public class GameController implements GameCallback {
             return;
         }
         final String message = new StringBuilder(game.getStep().toString()).append(" - Waiting for ").append(controller.getName()).toString();
-        for (final Entry<UUID, GameSession> entry: gameSessions.entrySet()) {
-            boolean skip = false;
-            for (UUID uuid : players) {
-                if (entry.getKey().equals(uuid)) {
-                    skip = true;
-                    break;
+        RulesCache.begin();
+        try {
+            for (final Entry<UUID, GameSession> entry: gameSessions.entrySet()) {
+                boolean skip = false;
+                for (UUID uuid : players) {
+                    if (entry.getKey().equals(uuid)) {
+                        skip = true;
+                        break;
+                    }
+                }
+                if (!skip) {
+                    entry.getValue().inform(message);
                 }
             }
-            if (!skip) {
-                entry.getValue().inform(message);
+            if (!watchers.isEmpty()) {
+                GameView watcherView = getWatcherView();
+                for (final GameWatcher watcher: watchers.values()) {
+                    watcher.inform(message, watcherView);
+                }
             }
-        }
-        for (final GameWatcher watcher: watchers.values()) {
-            watcher.inform(message);
+        } finally {
+            RulesCache.end();
         }
     }
 
@@ -701,16 +734,7 @@ public class GameController implements GameCallback {
 
     public boolean saveGame() {
         try {
-            OutputStream file = new FileOutputStream("saved/" + game.getId().toString() + ".game");
-            OutputStream buffer = new BufferedOutputStream(file);
-            ObjectOutput output = new ObjectOutputStream(new GZIPOutputStream(buffer));
-            try {
-                output.writeObject(game);
-                output.writeObject(game.getGameStates());
-            }
-            finally {
-                output.close();
-            }
+            GameReplay.saveGame(game);
             logger.debug("Saved game:" + game.getId());
             return true;
         }
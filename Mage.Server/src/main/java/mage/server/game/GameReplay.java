@@ -29,12 +29,24 @@
 package mage.server.game;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import mage.game.Game;
 import mage.game.GameState;
 import mage.game.GameStates;
@@ -45,6 +57,16 @@ import org.apache.log4j.Logger;
 
 
 /**
+ * Replay files start with {@link #REPLAY_FORMAT}, followed by the game and
+ * the game states as separately compressed records and an index of the
+ * record offsets at the end of the file. Only the game and the index are
+ * read when a replay starts, states are read when they are shown.
+ * The states are written in blocks of {@link #STATES_PER_RECORD}, the states
+ * of a block share one stream, so the objects they have in common (zones,
+ * triggered abilities, class descriptions) are written only once per block.
+ *
+ * Files saved before this format are a single compressed stream and are
+ * still loaded completely.
  *
  * @author BetaSteward_at_googlemail.com
  */
@@ -52,13 +74,22 @@ public class GameReplay {
 
     private static final Logger logger = Logger.getLogger(GameReplay.class);
 
-    private final GameStates savedGame;
+    private static final int REPLAY_FORMAT = 0x4d475232; // "MGR2"
+    private static final int STATES_PER_RECORD = 64;
+
+    private final File file;
     private final Game game;
+    private GameStates savedGame;
+    private long[] recordOffsets;
+    private int stateCount;
     private int stateIndex;
+    // the last read block of states, replays mostly move state by state
+    private int loadedRecord = -1;
+    private List<GameState> loadedStates;
 
     public GameReplay(UUID gameId) {
+        this.file = getFile(gameId);
         this.game = loadGame(gameId);
-        this.savedGame = game.getGameStates();
     }
 
     public void start() {
@@ -66,32 +97,82 @@ public class GameReplay {
     }
 
     public GameState next() {
-        if (this.stateIndex < savedGame.getSize()) {
-            return savedGame.get(stateIndex++);
+        if (this.stateIndex < getSize()) {
+            return getState(stateIndex++);
         }
         return null;
     }
 
     public GameState previous() {
         if (this.stateIndex > 0) {
-            return savedGame.get(--stateIndex);
+            return getState(--stateIndex);
         }
         return null;
     }
 
+    /**
+     * Moves forward without reading the skipped states.
+     *
+     * @param moves
+     */
+    public void skip(int moves) {
+        stateIndex = Math.min(stateIndex + moves, getSize());
+    }
+
     public Game getGame() {
         return this.game;
     }
 
+    private int getSize() {
+        if (recordOffsets != null) {
+            return stateCount;
+        }
+        return savedGame != null ? savedGame.getSize() : 0;
+    }
+
+    private GameState getState(int index) {
+        if (recordOffsets == null) {
+            return savedGame.get(index);
+        }
+        int record = index / STATES_PER_RECORD;
+        if (record == loadedRecord) {
+            return loadedStates.get(index % STATES_PER_RECORD);
+        }
+        try {
+            RandomAccessFile input = new RandomAccessFile(file, "r");
+            try {
+                loadedStates = (List<GameState>) readRecord(input, recordOffsets[record]);
+                loadedRecord = record;
+                return loadedStates.get(index % STATES_PER_RECORD);
+            }
+            finally {
+                input.close();
+            }
+        }
+        catch(ClassNotFoundException ex) {
+            logger.fatal("Cannot load game state. Class not found.", ex);
+        }
+        catch(IOException ex) {
+            logger.fatal("Cannot load game state " + index + " of game:" + game.getId(), ex);
+        }
+        return null;
+    }
+
     private Game loadGame(UUID gameId) {
-        try{
-            InputStream file = new FileInputStream("saved/" + gameId.toString() + ".game");
-            InputStream buffer = new BufferedInputStream(file);
-            ObjectInput input = new CopierObjectInputStream(Main.classLoader, new GZIPInputStream(buffer));
+        try {
+            RandomAccessFile input = new RandomAccessFile(file, "r");
             try {
-                Game loadGame = (Game)input.readObject();
-                GameStates states = (GameStates)input.readObject();
-                loadGame.loadGameStates(states);
+                if (input.length() < 4 || input.readInt() != REPLAY_FORMAT) {
+                    return loadLegacyGame();
+                }
+                Game loadGame = (Game) readRecord(input, 4);
+                input.seek(input.length() - 8);
+                input.seek(input.readLong());
+                stateCount = input.readInt();
+                recordOffsets = new long[input.readInt()];
+                for (int i = 0; i < recordOffsets.length; i++) {
+                    recordOffsets[i] = input.readLong();
+                }
                 return loadGame;
             }
             finally {
@@ -107,4 +188,83 @@ public class GameReplay {
         return null;
     }
 
+    private Game loadLegacyGame() throws IOException, ClassNotFoundException {
+        InputStream buffer = new BufferedInputStream(new FileInputStream(file));
+        ObjectInput input = new CopierObjectInputStream(Main.classLoader, new GZIPInputStream(buffer));
+        try {
+            Game loadGame = (Game)input.readObject();
+            GameStates states = (GameStates)input.readObject();
+            loadGame.loadGameStates(states);
+            savedGame = loadGame.getGameStates();
+            return loadGame;
+        }
+        finally {
+            input.close();
+        }
+    }
+
+    private static Object readRecord(RandomAccessFile input, long offset) throws IOException, ClassNotFoundException {
+        input.seek(offset);
+        byte[] data = new byte[input.readInt()];
+        input.readFully(data);
+        ObjectInput record = new CopierObjectInputStream(Main.classLoader, new GZIPInputStream(new ByteArrayInputStream(data)));
+        try {
+            return record.readObject();
+        }
+        finally {
+            record.close();
+        }
+    }
+
+    /**
+     * Writes the game and its saved states to the replay file, one block of states at a time.
+     *
+     * @param game
+     * @throws IOException
+     */
+    public static void saveGame(Game game) throws IOException {
+        GameStates states = game.getGameStates();
+        long[] offsets = new long[(states.getSize() + STATES_PER_RECORD - 1) / STATES_PER_RECORD];
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(getFile(game.getId()))));
+        try {
+            output.writeInt(REPLAY_FORMAT);
+            long position = 4 + writeRecord(output, game);
+            for (int i = 0; i < offsets.length; i++) {
+                ArrayList<GameState> block = new ArrayList<GameState>(STATES_PER_RECORD);
+                for (int j = i * STATES_PER_RECORD; j < Math.min((i + 1) * STATES_PER_RECORD, states.getSize()); j++) {
+                    block.add(states.get(j));
+                }
+                offsets[i] = position;
+                position += writeRecord(output, block);
+            }
+            output.writeInt(states.getSize());
+            output.writeInt(offsets.length);
+            for (long offset: offsets) {
+                output.writeLong(offset);
+            }
+            output.writeLong(position);
+        }
+        finally {
+            output.close();
+        }
+    }
+
+    private static int writeRecord(DataOutputStream output, Object object) throws IOException {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        ObjectOutput record = new ObjectOutputStream(new GZIPOutputStream(data));
+        try {
+            record.writeObject(object);
+        }
+        finally {
+            record.close();
+        }
+        output.writeInt(data.size());
+        data.writeTo(output);
+        return 4 + data.size();
+    }
+
+    private static File getFile(UUID gameId) {
+        return new File("saved/" + gameId.toString() + ".game");
+    }
+
 }
@@ -73,19 +73,33 @@ public class GameWatcher {
     }
 
     public void update() {
+        update(getGameView());
+    }
+
+    /**
+     * Sends an already built view, so that one view can be shared by all
+     * watchers that see the game the same way
+     *
+     * @param gameView
+     */
+    public void update(GameView gameView) {
         if (!killed) {
             User user = UserManager.getInstance().getUser(userId);
             if (user != null) {
-                user.fireCallback(new ClientCallback("gameUpdate", game.getId(), getGameView()));
+                user.fireCallback(new ClientCallback("gameUpdate", game.getId(), gameView));
             }
         }
     }
 
     public void inform(final String message) {
+        inform(message, getGameView());
+    }
+
+    public void inform(final String message, GameView gameView) {
         if (!killed) {
             User user = UserManager.getInstance().getUser(userId);
             if (user != null) {
-                user.fireCallback(new ClientCallback("gameInform", game.getId(), new GameClientMessage(getGameView(), message)));
+                user.fireCallback(new ClientCallback("gameInform", game.getId(), new GameClientMessage(gameView, message)));
             }
         }
     }
@@ -35,6 +35,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -68,35 +69,61 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
     private static List<UsersView> usersView = new ArrayList<>();
 
     private final ConcurrentHashMap<UUID, Table> tables = new ConcurrentHashMap<>();
+    // finished tables don't change any more, so their views are only built once
+    private final ConcurrentHashMap<UUID, MatchView> finishedViews = new ConcurrentHashMap<>();
+    // set when a client reads the lists, the views are only rebuilt if somebody looks at them
+    private volatile boolean viewsRequested = true;
+    private volatile boolean viewsCurrent = false;
+    private final Runnable updateTask = new Runnable() {
+        @Override
+        public void run() {
+            update();
+        }
+    };
 
     public GamesRoomImpl() {
-        updateExecutor.scheduleAtFixedRate(new Runnable() {
-            @Override
-            public void run() {
-                update();
-            }
-        }, 2, 2, TimeUnit.SECONDS);
+        updateExecutor.scheduleAtFixedRate(updateTask, 2, 2, TimeUnit.SECONDS);
     }
 
     @Override
     public List<TableView> getTables() {
+        requestViews();
         return tableView;
     }
 
+    /**
+     * Marks the views as wanted for the next update. If the last updates
+     * skipped building them, they are rebuilt before returning.
+     */
+    private void requestViews() {
+        viewsRequested = true;
+        if (!viewsCurrent) {
+            try {
+                updateExecutor.submit(updateTask).get();
+            } catch (InterruptedException | ExecutionException ex) {
+                logger.error("Room update failed", ex);
+            }
+        }
+    }
+
     private void update() {
+        boolean buildViews = viewsRequested;
+        viewsRequested = false;
+        viewsCurrent = buildViews;
         ArrayList<TableView> tableList = new ArrayList<>();
         ArrayList<MatchView> matchList = new ArrayList<>();
         List<Table> allTables = new ArrayList<>(tables.values());
         Collections.sort(allTables, new TableListSorter());
+        int finished = 0;
         for (Table table: allTables) {
             if (table.getState() != TableState.FINISHED) {
-                tableList.add(new TableView(table));
+                if (buildViews) {
+                    tableList.add(new TableView(table));
+                }
             }
-            else if (matchList.size() < 50) { 
-                 if (table.isTournament()) {
-                    matchList.add(new MatchView(table));
-                } else {
-                    matchList.add(new MatchView(table.getMatch()));
+            else if (finished++ < 50) {
+                if (buildViews) {
+                    matchList.add(getFinishedView(table));
                 }
             } else {
                 // more since 50 matches finished since this match so remove it
@@ -106,6 +133,9 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
                 this.removeTable(table.getId());
            }
         }
+        if (!buildViews) {
+            return;
+        }
         tableView = tableList;
         matchView = matchList;
         List<UsersView> users = new ArrayList<>();
@@ -117,8 +147,22 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
         usersView = users;
     }
 
+    private MatchView getFinishedView(Table table) {
+        MatchView view = finishedViews.get(table.getId());
+        if (view == null) {
+            if (table.isTournament()) {
+                view = new MatchView(table);
+            } else {
+                view = new MatchView(table.getMatch());
+            }
+            finishedViews.put(table.getId(), view);
+        }
+        return view;
+    }
+
     @Override
     public List<MatchView> getFinished() {
+        requestViews();
         return matchView;
     }
 
@@ -165,6 +209,7 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
     @Override
     public void removeTable(UUID userId, UUID tableId) {
         tables.remove(tableId);
+        finishedViews.remove(tableId);
     }
 
     @Override
@@ -173,6 +218,7 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
         if (table != null) {
             table.cleanUp();
             tables.remove(tableId);
+            finishedViews.remove(tableId);
             if (logger.isDebugEnabled()) {
                 logger.debug("Table removed: " + tableId);
             }
@@ -191,6 +237,7 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
 
     @Override
     public List<UsersView> getPlayers() {
+        requestViews();
         return usersView;
     }
 
@@ -37,7 +37,7 @@ import java.util.concurrent.*;
 public class ThreadExecutor {
 
     private static final ExecutorService callExecutor = Executors.newCachedThreadPool();
-    private static final ExecutorService gameExecutor = Executors.newFixedThreadPool(ConfigSettings.getInstance().getMaxGameThreads());
+    private static final ExecutorService gameExecutor = createGameExecutor(ConfigSettings.getInstance().getMaxGameThreads());
     private static final ScheduledExecutorService timeoutExecutor = Executors.newScheduledThreadPool(5);
 
     static {
@@ -49,6 +49,21 @@ public class ThreadExecutor {
         ((ThreadPoolExecutor)timeoutExecutor).allowCoreThreadTimeOut(true);
     }
 
+    /**
+     * A game thread is parked most of the time waiting for a player response.
+     * With maxGameThreads = 0 the pool has no upper limit, so the number of
+     * running games is not capped by the number of game threads.
+     *
+     * @param maxGameThreads
+     * @return
+     */
+    private static ExecutorService createGameExecutor(int maxGameThreads) {
+        if (maxGameThreads > 0) {
+            return Executors.newFixedThreadPool(maxGameThreads);
+        }
+        return Executors.newCachedThreadPool();
+    }
+
     private static final ThreadExecutor INSTANCE = new ThreadExecutor();
 
     public static ThreadExecutor getInstance() {
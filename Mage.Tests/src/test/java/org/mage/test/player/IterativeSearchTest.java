@@ -0,0 +1,80 @@
+package org.mage.test.player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import mage.abilities.Ability;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.player.ai.ComputerPlayer6;
+import mage.player.ai.SimulationNode2;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * The AI searches with increasing depth, if it runs out of time it has to
+ * use the actions of the deepest completed iteration
+ */
+public class IterativeSearchTest extends CardTestPlayerBase {
+
+    @Test
+    public void testTimedOutSearchUsesCompletedDepth() {
+        addCard(Zone.HAND, playerA, "Mountain");
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        // playerA gets priority in the main phase as it would in a running game
+        currentGame.getPlayers().resetPassed();
+        currentGame.getState().setPriorityPlayerId(playerA.getId());
+        currentGame.getPlayerList().setCurrent(playerA.getId());
+
+        // a search that ends after its second iteration
+        SearchPlayer complete = new SearchPlayer(playerA.getId(), 2, Integer.MAX_VALUE);
+        complete.search(currentGame);
+        Assert.assertEquals("[Play Mountain null]", complete.getActionNames().toString());
+
+        // the third iteration doesn't end before the think time is over
+        SearchPlayer timed = new SearchPlayer(playerA.getId(), 4, 3);
+        timed.search(currentGame);
+        Assert.assertEquals(complete.getActionNames(), timed.getActionNames());
+    }
+
+    private static class SearchPlayer extends ComputerPlayer6 {
+
+        private final int blockedDepth;
+
+        SearchPlayer(UUID id, int depth, int blockedDepth) {
+            super(id, 4);
+            this.maxDepth = depth;
+            this.maxThink = 1;
+            this.blockedDepth = blockedDepth;
+        }
+
+        void search(Game game) {
+            calculateActions(game);
+        }
+
+        List<String> getActionNames() {
+            List<String> names = new ArrayList<>();
+            for (Ability ability : actions) {
+                names.add(ability.toString() + " " + ability.getTargets().getFirstTarget());
+            }
+            return names;
+        }
+
+        @Override
+        protected int addActions(SimulationNode2 node, int depth, int alpha, int beta) {
+            if (searchDepth >= blockedDepth) {
+                try {
+                    Thread.sleep(60000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.addActions(node, depth, alpha, beta);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.mage.test.player;
+
+import mage.player.ai.TranspositionTable;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The transposition table of the AI keeps the scores of already searched positions
+ */
+public class TranspositionTableTest {
+
+    @Test
+    public void testScoreNeedsEnoughDepth() {
+        TranspositionTable table = new TranspositionTable(10);
+        table.put(1L, 3, 100);
+
+        Assert.assertEquals(Integer.valueOf(100), table.get(1L, 3));
+        Assert.assertEquals(Integer.valueOf(100), table.get(1L, 2));
+        Assert.assertNull(table.get(1L, 4));
+        Assert.assertNull(table.get(2L, 0));
+    }
+
+    @Test
+    public void testDeeperScoreIsKept() {
+        TranspositionTable table = new TranspositionTable(10);
+        table.put(1L, 3, 100);
+        table.put(1L, 2, 50);
+        Assert.assertEquals(Integer.valueOf(100), table.get(1L, 2));
+
+        table.put(1L, 4, 20);
+        Assert.assertEquals(Integer.valueOf(20), table.get(1L, 4));
+    }
+
+    @Test
+    public void testSizeIsLimited() {
+        TranspositionTable table = new TranspositionTable(3);
+        table.put(1L, 1, 10);
+        table.put(2L, 1, 20);
+        table.put(3L, 1, 30);
+        // the least recently used entry is dropped
+        table.get(1L, 1);
+        table.put(4L, 1, 40);
+
+        Assert.assertEquals(3, table.size());
+        Assert.assertNull(table.get(2L, 1));
+        Assert.assertEquals(Integer.valueOf(10), table.get(1L, 1));
+        Assert.assertEquals(Integer.valueOf(40), table.get(4L, 1));
+
+        table.clear();
+        Assert.assertEquals(0, table.size());
+    }
+}
@@ -0,0 +1,105 @@
+package org.mage.test.serverside;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.zip.GZIPOutputStream;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.GameState;
+import mage.players.Player;
+import mage.server.game.GameReplay;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Saved games are read back as replays, in the current format and in the
+ * format of older versions
+ */
+public class GameReplayTest extends CardTestPlayerBase {
+
+    private File file;
+
+    @After
+    public void deleteFile() {
+        if (file != null) {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testLoadSavedGame() throws IOException {
+        playGame();
+        GameReplay.saveGame(currentGame);
+        file = new File("saved/" + currentGame.getId() + ".game");
+
+        checkReplay();
+    }
+
+    @Test
+    public void testLoadLegacySavedGame() throws IOException {
+        playGame();
+        file = new File("saved/" + currentGame.getId() + ".game");
+        ObjectOutput output = new ObjectOutputStream(new GZIPOutputStream(new BufferedOutputStream(new FileOutputStream(file))));
+        try {
+            output.writeObject(currentGame);
+            output.writeObject(currentGame.getGameStates());
+        }
+        finally {
+            output.close();
+        }
+
+        checkReplay();
+    }
+
+    private void playGame() {
+        new File("saved").mkdirs();
+        currentGame.setSaveGame(true);
+        addCard(Zone.BATTLEFIELD, playerA, "Phyrexian Arena");
+        addCard(Zone.BATTLEFIELD, playerB, "Phyrexian Arena");
+
+        setStopAt(4, PhaseStep.END_TURN);
+        execute();
+
+        // more states than fit into one record of the replay file
+        Player player = currentGame.getPlayer(playerA.getId());
+        for (int i = 0; i < 100; i++) {
+            player.setLife(20 - i % 10, currentGame);
+            currentGame.getGameStates().save(currentGame.getState());
+        }
+    }
+
+    private void checkReplay() {
+        int savedStates = currentGame.getGameStates().getSize();
+
+        GameReplay replay = new GameReplay(currentGame.getId());
+        Assert.assertEquals(currentGame.getId(), replay.getGame().getId());
+        replay.start();
+        int count = 0;
+        GameState last = null;
+        GameState state;
+        while ((state = replay.next()) != null) {
+            GameState saved = currentGame.getGameStates().get(count);
+            Assert.assertEquals(saved.getTurnNum(), state.getTurnNum());
+            Assert.assertEquals(saved.getPlayer(playerA.getId()).getLife(), state.getPlayer(playerA.getId()).getLife());
+            last = state;
+            count++;
+        }
+        Assert.assertTrue(count > 100);
+        Assert.assertEquals(savedStates, count);
+        Assert.assertEquals(11, last.getPlayer(playerA.getId()).getLife());
+        Assert.assertEquals(18, last.getPlayer(playerB.getId()).getLife());
+
+        replay.start();
+        replay.skip(count - 5);
+        Assert.assertEquals(currentGame.getGameStates().get(count - 5).getPlayer(playerA.getId()).getLife(), replay.next().getPlayer(playerA.getId()).getLife());
+        replay.skip(count);
+        Assert.assertNull(replay.next());
+        Assert.assertEquals(11, replay.previous().getPlayer(playerA.getId()).getLife());
+    }
+}
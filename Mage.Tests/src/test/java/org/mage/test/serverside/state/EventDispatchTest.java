@@ -0,0 +1,70 @@
+package org.mage.test.serverside.state;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import mage.watchers.common.PlayerLostLifeWatcher;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Events are only dispatched to the triggers and watchers that handle their
+ * type, they still have to get their events after a state copy or a rollback
+ */
+public class EventDispatchTest extends CardTestPlayerBase {
+
+    @Test
+    public void testDispatchAfterCopy() {
+        addCard(Zone.BATTLEFIELD, playerA, "Phyrexian Arena");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        // Phyrexian Arena already made player A lose life this turn
+        int lifeLost = getLifeLost(currentGame);
+        Game copy = currentGame.copy();
+        copy.getState().handleEvent(upkeepEvent(), copy);
+        copy.getState().handleEvent(lostLifeEvent(3), copy);
+
+        Assert.assertEquals(1, copy.getState().getTriggered(playerA.getId()).size());
+        Assert.assertEquals(lifeLost + 3, getLifeLost(copy));
+        Assert.assertEquals(0, currentGame.getState().getTriggered(playerA.getId()).size());
+        Assert.assertEquals(lifeLost, getLifeLost(currentGame));
+    }
+
+    @Test
+    public void testDispatchAfterRollback() {
+        addCard(Zone.BATTLEFIELD, playerA, "Phyrexian Arena");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        int bookmark = currentGame.bookmarkState();
+        currentGame.getState().handleEvent(upkeepEvent(), currentGame);
+        Assert.assertEquals(1, currentGame.getState().getTriggered(playerA.getId()).size());
+        currentGame.restoreState(bookmark);
+        Assert.assertEquals(0, currentGame.getState().getTriggered(playerA.getId()).size());
+
+        // watchers are not part of the restored objects, they only have to keep getting events
+        int lifeLost = getLifeLost(currentGame);
+        currentGame.getState().handleEvent(upkeepEvent(), currentGame);
+        currentGame.getState().handleEvent(lostLifeEvent(3), currentGame);
+        Assert.assertEquals(1, currentGame.getState().getTriggered(playerA.getId()).size());
+        Assert.assertEquals(lifeLost + 3, getLifeLost(currentGame));
+    }
+
+    private GameEvent upkeepEvent() {
+        return new GameEvent(GameEvent.EventType.UPKEEP_STEP_PRE, null, null, playerA.getId());
+    }
+
+    private GameEvent lostLifeEvent(int amount) {
+        return new GameEvent(GameEvent.EventType.LOST_LIFE, playerA.getId(), null, playerA.getId(), amount, false);
+    }
+
+    private int getLifeLost(Game game) {
+        PlayerLostLifeWatcher watcher = (PlayerLostLifeWatcher) game.getState().getWatchers().get("PlayerLostLifeWatcher");
+        return watcher.getLiveLost(playerA.getId());
+    }
+}
@@ -0,0 +1,82 @@
+package org.mage.test.serverside.state;
+
+import java.util.Map;
+import mage.abilities.TriggeredAbility;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.GameState;
+import mage.game.events.GameEvent;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Game state copies share their zones and triggered abilities until they are
+ * changed, a change of one state must never show up in the other one
+ */
+public class GameStateCopyTest extends CardTestPlayerBase {
+
+    @Test
+    public void testZonesOfCopyAreIndependent() {
+        addCard(Zone.BATTLEFIELD, playerA, "Phyrexian Arena");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        Permanent arena = getPermanent("Phyrexian Arena", playerA.getId());
+        GameState original = currentGame.getState();
+        GameState copy = original.copy();
+
+        copy.setZone(arena.getId(), Zone.GRAVEYARD);
+        Assert.assertEquals(Zone.BATTLEFIELD, original.getZone(arena.getId()));
+
+        original.setZone(arena.getId(), Zone.EXILED);
+        Assert.assertEquals(Zone.GRAVEYARD, copy.getZone(arena.getId()));
+
+        GameState secondCopy = copy.copy();
+        copy.setZone(arena.getId(), Zone.HAND);
+        Assert.assertEquals(Zone.GRAVEYARD, secondCopy.getZone(arena.getId()));
+        Assert.assertEquals(Zone.EXILED, original.getZone(arena.getId()));
+    }
+
+    @Test
+    public void testTriggeredAbilitiesOfCopyAreIndependent() {
+        addCard(Zone.BATTLEFIELD, playerA, "Phyrexian Arena");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        Permanent arena = getPermanent("Phyrexian Arena", playerA.getId());
+        Game copy = currentGame.copy();
+        String key = getTriggerKey(currentGame.getState(), arena);
+        TriggeredAbility shared = currentGame.getState().getTriggers().get(key);
+        Assert.assertSame(shared, copy.getState().getTriggers().get(key));
+
+        // checking the trigger in the copy must not change the original's ability
+        GameEvent upkeep = new GameEvent(GameEvent.EventType.UPKEEP_STEP_PRE, null, null, playerA.getId());
+        copy.getState().handleEvent(upkeep, copy);
+        Assert.assertSame(shared, currentGame.getState().getTriggers().get(key));
+        Assert.assertNotSame(shared, copy.getState().getTriggers().get(key));
+        Assert.assertEquals(1, copy.getState().getTriggered(playerA.getId()).size());
+        Assert.assertEquals(0, currentGame.getState().getTriggered(playerA.getId()).size());
+
+        // and the original must not change the ability it shares with a copy
+        Game secondCopy = currentGame.copy();
+        currentGame.getState().handleEvent(upkeep, currentGame);
+        Assert.assertSame(shared, secondCopy.getState().getTriggers().get(key));
+        Assert.assertNotSame(shared, currentGame.getState().getTriggers().get(key));
+        Assert.assertEquals(0, secondCopy.getState().getTriggered(playerA.getId()).size());
+    }
+
+    private String getTriggerKey(GameState state, Permanent permanent) {
+        for (Map.Entry<String, TriggeredAbility> entry : state.getTriggers().entrySet()) {
+            if (entry.getValue().getSourceId().equals(permanent.getId())) {
+                return entry.getKey();
+            }
+        }
+        Assert.fail("No triggered ability found for " + permanent.getName());
+        return null;
+    }
+}
@@ -0,0 +1,71 @@
+package org.mage.test.serverside.state;
+
+import mage.Mana;
+import mage.abilities.Ability;
+import mage.abilities.effects.common.continious.BoostControlledEffect;
+import mage.constants.Duration;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.counters.CounterType;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import mage.players.Player;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * The state hash is used by the AI to recognize positions it already searched,
+ * equal states must have the same hash and every change of the state a new one
+ */
+public class GameStateHashTest extends CardTestPlayerBase {
+
+    @Test
+    public void testCopyHasSameHash() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain");
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion");
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        Game copy = currentGame.copy();
+        Assert.assertEquals(getHash(currentGame), getHash(copy));
+        Assert.assertEquals(getHash(copy), getHash(copy.copy()));
+    }
+
+    @Test
+    public void testHashChangesWithState() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain");
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion");
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        long hash = getHash(currentGame);
+        Permanent mountain = getPermanent("Mountain", playerA.getId());
+        Ability manaAbility = mountain.getAbilities().getManaAbilities(Zone.BATTLEFIELD).get(0);
+
+        Game copy = currentGame.copy();
+        copy.getPlayer(playerA.getId()).getManaPool().addMana(Mana.RedMana(1), copy, manaAbility);
+        Assert.assertFalse(hash == getHash(copy));
+
+        copy = currentGame.copy();
+        Player player = copy.getPlayer(playerB.getId());
+        player.setLife(player.getLife() - 1, copy);
+        Assert.assertFalse(hash == getHash(copy));
+
+        copy = currentGame.copy();
+        copy.getPlayer(playerB.getId()).addCounters(CounterType.POISON.createInstance(), copy);
+        Assert.assertFalse(hash == getHash(copy));
+
+        copy = currentGame.copy();
+        copy.getState().addEffect(new BoostControlledEffect(1, 1, Duration.EndOfTurn), manaAbility);
+        Assert.assertFalse(hash == getHash(copy));
+
+        Assert.assertEquals(hash, getHash(currentGame));
+    }
+
+    private long getHash(Game game) {
+        return game.getState().getStateHash(true, game);
+    }
+}
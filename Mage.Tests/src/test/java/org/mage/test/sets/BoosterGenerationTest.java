@@ -0,0 +1,73 @@
+package org.mage.test.sets;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import mage.cards.Card;
+import mage.cards.Sets;
+import mage.cards.repository.CardCriteria;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import mage.constants.Rarity;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Boosters are built from the cards of a set that the repository keeps in memory
+ */
+public class BoosterGenerationTest {
+
+    @BeforeClass
+    public static void init() {
+        CardScanner.scan();
+    }
+
+    @Test
+    public void testSetCardsMatchQuery() {
+        Rarity[] rarities = {Rarity.LAND, Rarity.COMMON, Rarity.UNCOMMON, Rarity.RARE, Rarity.MYTHIC};
+        for (String setCode : new String[]{"M14", "ISD"}) {
+            for (Rarity rarity : rarities) {
+                for (boolean doubleFaced : new boolean[]{false, true}) {
+                    CardCriteria criteria = new CardCriteria();
+                    criteria.setCodes(setCode).rarities(rarity).doubleFaced(doubleFaced);
+                    List<String> expected = getClassNames(CardRepository.instance.findCards(criteria));
+                    List<String> found = getClassNames(CardRepository.instance.findCards(setCode, rarity, doubleFaced));
+                    Assert.assertEquals(setCode + " " + rarity + " double faced: " + doubleFaced, expected, found);
+                }
+            }
+        }
+        Assert.assertFalse(CardRepository.instance.findCards("ISD", Rarity.COMMON, true).isEmpty());
+    }
+
+    @Test
+    public void testBoosterSize() {
+        for (int i = 0; i < 3; i++) {
+            List<Card> booster = Sets.findSet("M14").createBooster();
+            Assert.assertEquals(15, booster.size());
+        }
+    }
+
+    @Test
+    public void testDoubleFacedCard() {
+        List<Card> booster = Sets.findSet("ISD").createBooster();
+        Assert.assertEquals(15, booster.size());
+        int doubleFaced = 0;
+        for (Card card : booster) {
+            if (card.canTransform()) {
+                doubleFaced++;
+            }
+        }
+        Assert.assertEquals(1, doubleFaced);
+    }
+
+    private List<String> getClassNames(List<CardInfo> cards) {
+        List<String> classNames = new ArrayList<>();
+        for (CardInfo card : cards) {
+            classNames.add(card.getClassName());
+        }
+        Collections.sort(classNames);
+        return classNames;
+    }
+}
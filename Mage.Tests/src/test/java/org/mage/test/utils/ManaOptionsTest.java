@@ -0,0 +1,68 @@
+package org.mage.test.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import mage.Mana;
+import mage.abilities.mana.AnyColorManaAbility;
+import mage.abilities.mana.GreenManaAbility;
+import mage.abilities.mana.ManaAbility;
+import mage.abilities.mana.ManaOptions;
+import mage.abilities.mana.RedManaAbility;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks that ManaOptions doesn't keep options another option includes
+ */
+public class ManaOptionsTest {
+
+    @Test
+    public void testDualLandsGrowLinear() {
+        ManaOptions options = new ManaOptions();
+        for (int i = 0; i < 10; i++) {
+            List<ManaAbility> abilities = new ArrayList<ManaAbility>();
+            abilities.add(new RedManaAbility());
+            abilities.add(new GreenManaAbility());
+            options.addMana(abilities, null);
+        }
+        // R10, R9G1, ... G10 instead of 2^10 options
+        Assert.assertEquals(11, options.size());
+        for (Mana mana: options) {
+            Assert.assertEquals(10, mana.count());
+        }
+    }
+
+    @Test
+    public void testAnyColorIncludesSingleColors() {
+        ManaOptions options = new ManaOptions();
+        List<ManaAbility> abilities = new ArrayList<ManaAbility>();
+        abilities.add(new RedManaAbility());
+        abilities.add(new AnyColorManaAbility());
+        options.addMana(abilities, null);
+        Assert.assertEquals(1, options.size());
+        Assert.assertEquals(1, options.get(0).getAny());
+    }
+
+    @Test
+    public void testNegativeOptions() {
+        ManaOptions options = new ManaOptions();
+        options.add(new Mana(-1, 0, 0, 0, 0, 3, 0));
+        options.add(new Mana(0, 0, 0, 0, 0, 1, 0));
+        options.removeDominatedOptions();
+        Assert.assertEquals(2, options.size());
+
+        options.add(new Mana(0, 0, 0, 0, 0, 3, 0));
+        options.removeDominatedOptions();
+        Assert.assertEquals(1, options.size());
+        Assert.assertEquals(3, options.get(0).getColorless());
+        Assert.assertEquals(0, options.get(0).getRed());
+    }
+
+    @Test
+    public void testIncludesMana() {
+        Assert.assertTrue(new Mana(1, 0, 0, 0, 0, 0, 1).includesMana(new Mana(0, 1, 0, 0, 0, 0, 0)));
+        Assert.assertTrue(new Mana(0, 0, 0, 0, 0, 0, 1).includesMana(new Mana(0, 0, 0, 0, 0, 1, 0)));
+        Assert.assertFalse(new Mana(1, 0, 0, 0, 0, 0, 0).includesMana(new Mana(0, 1, 0, 0, 0, 0, 0)));
+        Assert.assertFalse(new Mana(1, 1, 0, 0, 0, 0, 0).includesMana(new Mana(0, 0, 0, 0, 0, 0, 1)));
+    }
+}
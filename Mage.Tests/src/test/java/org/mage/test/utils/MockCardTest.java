@@ -0,0 +1,43 @@
+package org.mage.test.utils;
+
+import java.util.HashSet;
+import java.util.Set;
+import mage.abilities.Ability;
+import mage.cards.Card;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Mock cards of the same card are copied from one cached card, every copy
+ * needs its own abilities
+ */
+public class MockCardTest {
+
+    @BeforeClass
+    public static void init() {
+        CardScanner.scan();
+    }
+
+    @Test
+    public void testMockCardsHaveOwnAbilities() {
+        CardInfo cardInfo = CardRepository.instance.findCard("Phyrexian Arena");
+        Card first = cardInfo.getMockCard();
+        Card second = cardInfo.getMockCard();
+
+        Assert.assertFalse(first.getId().equals(second.getId()));
+        Assert.assertFalse(first.getAbilities().isEmpty());
+        Set<Ability> firstAbilities = new HashSet<>(first.getAbilities());
+        for (Ability ability : second.getAbilities()) {
+            Assert.assertFalse(firstAbilities.contains(ability));
+            Assert.assertEquals(second.getId(), ability.getSourceId());
+        }
+        for (Ability ability : first.getAbilities()) {
+            Assert.assertEquals(first.getId(), ability.getSourceId());
+        }
+        Assert.assertEquals(first.getRules(), second.getRules());
+    }
+}
@@ -439,6 +439,26 @@ public class Mana implements Comparable<Mana>, Serializable, Copyable<Mana> {
         return false;
     }
 
+    /**
+     * Checks if this mana can pay for everything the given mana can pay for.
+     * Each missing colored or colorless mana can be replaced by an any mana.
+     *
+     * @param mana
+     * @return true if this mana includes the given mana
+     */
+    public boolean includesMana(Mana mana) {
+        if (red < 0 || green < 0 || blue < 0 || white < 0 || black < 0 || colorless < 0 || any < 0) {
+            return false;
+        }
+        int missing = Math.max(0, mana.red - red)
+                + Math.max(0, mana.green - green)
+                + Math.max(0, mana.blue - blue)
+                + Math.max(0, mana.white - white)
+                + Math.max(0, mana.black - black)
+                + Math.max(0, mana.colorless - colorless);
+        return any - mana.any >= missing;
+    }
+
     public int getColor(ColoredManaSymbol color) {
         if (color.equals(ColoredManaSymbol.G)) {
             return getGreen();
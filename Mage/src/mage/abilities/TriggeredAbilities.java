@@ -30,11 +30,15 @@
 package mage.abilities;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import mage.MageObject;
 import mage.constants.Zone;
 import mage.game.Game;
@@ -51,19 +55,62 @@ public class TriggeredAbilities extends HashMap<String, TriggeredAbility> {
 
     private Map<String, List<UUID>> sources = new HashMap<String, List<UUID>>();
 
-    public TriggeredAbilities() {}
+    // keys of the abilities this instance may change in place, all other abilities
+    // are shared with copies of this object and have to be copied before they are changed
+    private final Set<String> owned = new HashSet<String>();
+    // counts the copies made of this object and of its copies, the owned keys are only valid
+    // as long as no copy was made since they were recorded (the copied object is never changed)
+    private final AtomicLong copies;
+    private long ownedStamp;
 
+    // keys of the abilities by the event types they can trigger on
+    private final Map<GameEvent.EventType, List<String>> eventTypeKeys = new EnumMap<GameEvent.EventType, List<String>>(GameEvent.EventType.class);
+    // keys of the abilities that don't define their event types and have to be checked for all events
+    private final List<String> allEventsKeys = new ArrayList<String>();
+
+    public TriggeredAbilities() {
+        this.copies = new AtomicLong();
+    }
+
+    /**
+     * The abilities are shared with the copied object and are only copied
+     * before they are used to check a trigger (copy on write).
+     * Most triggered abilities are from cards that are not in a useable zone
+     * (library, hand) so they never have to be copied at all.
+     *
+     * @param abilities
+     */
     public TriggeredAbilities(final TriggeredAbilities abilities) {
-        for (Map.Entry<String, TriggeredAbility> entry: abilities.entrySet()) {
-            this.put(entry.getKey(), entry.getValue().copy());
-        }
+        super(abilities);
+        this.copies = abilities.copies;
+        this.ownedStamp = copies.incrementAndGet();
         for (Map.Entry<String, List<UUID>> entry : abilities.sources.entrySet()) {
             sources.put(entry.getKey(), entry.getValue());
         }
+        for (Map.Entry<GameEvent.EventType, List<String>> entry : abilities.eventTypeKeys.entrySet()) {
+            eventTypeKeys.put(entry.getKey(), new ArrayList<String>(entry.getValue()));
+        }
+        allEventsKeys.addAll(abilities.allEventsKeys);
     }
 
+    /**
+     * Checks only the abilities that can trigger on the type of the event
+     * and the abilities that don't define their event types.
+     *
+     * @param event
+     * @param game
+     */
     public void checkTriggers(GameEvent event, Game game) {
-        for (TriggeredAbility ability: this.values()) {
+        List<String> keys = eventTypeKeys.get(event.getType());
+        if (keys != null) {
+            checkTriggers(keys, event, game);
+        }
+        checkTriggers(allEventsKeys, event, game);
+    }
+
+    private void checkTriggers(List<String> keys, GameEvent event, Game game) {
+        for (String key: keys) {
+            TriggeredAbility ability = this.get(key);
             // for effects like when leaves battlefield use ShortLKI to check if permanent was in the correct zone before (e.g. Oblivion Ring)
             if (ability.isInUseableZone(game, null, event.getType().equals(GameEvent.EventType.ZONE_CHANGE) ? true :false)) {
                 MageObject object = null;
@@ -75,6 +122,7 @@ public class TriggeredAbilities extends HashMap<String, TriggeredAbility> {
                 }
                 if (object != null) {
                     if (checkAbilityStillExists(ability, event, object)) {
+                        ability = getOwned(key, ability);
                         if (object instanceof Permanent) {
                             ability.setControllerId(((Permanent) object).getControllerId());
                         }
@@ -88,6 +136,24 @@ public class TriggeredAbilities extends HashMap<String, TriggeredAbility> {
         }
     }
 
+    private TriggeredAbility getOwned(String key, TriggeredAbility ability) {
+        if (getOwnedKeys().add(key)) {
+            ability = ability.copy();
+            this.put(key, ability);
+        }
+        return ability;
+    }
+
+    private Set<String> getOwnedKeys() {
+        long stamp = copies.get();
+        if (ownedStamp != stamp) {
+            // a copy shares the abilities now
+            owned.clear();
+            ownedStamp = stamp;
+        }
+        return owned;
+    }
+
     private boolean checkAbilityStillExists(TriggeredAbility ability, GameEvent event, MageObject object) {
         boolean exists = true;
         if (!object.getAbilities().contains(ability)) {
@@ -130,7 +196,41 @@ public class TriggeredAbilities extends HashMap<String, TriggeredAbility> {
     }
 
     public void add(TriggeredAbility ability, MageObject attachedTo) {
-        this.put(getKey(ability, attachedTo), ability);
+        String key = getKey(ability, attachedTo);
+        if (this.put(key, ability) == null) {
+            addEventTypeKey(key, ability);
+        }
+        getOwnedKeys().add(key);
+    }
+
+    private void addEventTypeKey(String key, TriggeredAbility ability) {
+        Set<GameEvent.EventType> eventTypes = ability.getEventTypes();
+        if (eventTypes == null) {
+            allEventsKeys.add(key);
+            return;
+        }
+        for (GameEvent.EventType eventType: eventTypes) {
+            List<String> keys = eventTypeKeys.get(eventType);
+            if (keys == null) {
+                keys = new ArrayList<String>();
+                eventTypeKeys.put(eventType, keys);
+            }
+            keys.add(key);
+        }
+    }
+
+    private void removeEventTypeKey(String key, TriggeredAbility ability) {
+        Set<GameEvent.EventType> eventTypes = ability.getEventTypes();
+        if (eventTypes == null) {
+            allEventsKeys.remove(key);
+            return;
+        }
+        for (GameEvent.EventType eventType: eventTypes) {
+            List<String> keys = eventTypeKeys.get(eventType);
+            if (keys != null) {
+                keys.remove(key);
+            }
+        }
     }
 
     private String getKey(TriggeredAbility ability, MageObject target) {
@@ -160,6 +260,24 @@ public class TriggeredAbilities extends HashMap<String, TriggeredAbility> {
         return keysToRemove;
     }
 
+    @Override
+    public TriggeredAbility remove(Object key) {
+        owned.remove(key);
+        TriggeredAbility ability = super.remove(key);
+        if (ability != null) {
+            removeEventTypeKey((String) key, ability);
+        }
+        return ability;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        owned.clear();
+        eventTypeKeys.clear();
+        allEventsKeys.clear();
+    }
+
     public TriggeredAbilities copy() {
         return new TriggeredAbilities(this);
     }
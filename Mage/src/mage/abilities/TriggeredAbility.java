@@ -28,6 +28,7 @@
 
 package mage.abilities;
 
+import java.util.Set;
 import java.util.UUID;
 import mage.game.Game;
 import mage.game.events.GameEvent;
@@ -41,6 +42,15 @@ public interface TriggeredAbility extends Ability {
     void trigger(Game game, UUID controllerId);
     boolean checkTrigger(GameEvent event, Game game);
     boolean checkInterveningIfClause(Game game);
+
+    /**
+     * Returns the types of the events the ability can trigger on.
+     * The ability is only checked for events of these types.
+     *
+     * @return the event types or null if the ability has to be checked for all events
+     */
+    Set<GameEvent.EventType> getEventTypes();
+
     @Override
     TriggeredAbility copy();
 
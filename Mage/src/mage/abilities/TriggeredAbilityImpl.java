@@ -28,12 +28,14 @@
 
 package mage.abilities;
 
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObject;
 import mage.abilities.effects.Effect;
 import mage.constants.AbilityType;
 import mage.constants.Zone;
 import mage.game.Game;
+import mage.game.events.GameEvent;
 import mage.players.Player;
 
 /**
@@ -76,6 +78,11 @@ public abstract class TriggeredAbilityImpl<T extends TriggeredAbilityImpl<T>> ex
         return true;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return null;
+    }
+
     @Override
     public boolean resolve(Game game) {
         MageObject object = game.getObject(sourceId);
@@ -27,6 +27,8 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.constants.Zone;
 import mage.abilities.TriggeredAbilityImpl;
@@ -64,6 +66,11 @@ public class AllyEntersBattlefieldTriggeredAbility extends TriggeredAbilityImpl
         return false;
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public String getRule() {
         return "Whenever {this} or another Ally enters the battlefield under your control, " + super.getRule();
@@ -27,6 +27,8 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.constants.Zone;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
@@ -56,6 +58,11 @@ public class BecomesBlockedTriggeredAbility extends TriggeredAbilityImpl<Becomes
         return false;
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.CREATURE_BLOCKED);
+    }
+
     @Override
     public String getRule() {
         return "Whenever {this} becomes blocked, " + super.getRule();
@@ -27,6 +27,8 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.constants.Zone;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
@@ -61,6 +63,11 @@ public class BecomesTargetTriggeredAbility extends TriggeredAbilityImpl<BecomesT
         return false;
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.TARGETED);
+    }
+
     @Override
     public String getRule() {
         return "When {this} becomes the target of a spell or ability, " + super.getRule();
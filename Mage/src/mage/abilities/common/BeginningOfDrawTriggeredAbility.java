@@ -1,5 +1,7 @@
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.constants.TargetController;
 import mage.constants.Zone;
 import mage.abilities.TriggeredAbilityImpl;
@@ -87,6 +89,11 @@ public class BeginningOfDrawTriggeredAbility extends TriggeredAbilityImpl<Beginn
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DRAW_STEP_PRE);
+    }
+
     @Override
     public String getRule() {
         switch (targetController) {
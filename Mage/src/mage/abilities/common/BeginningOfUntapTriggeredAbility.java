@@ -4,6 +4,8 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.TargetController;
@@ -90,6 +92,11 @@ public class BeginningOfUntapTriggeredAbility extends TriggeredAbilityImpl<Begin
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.UNTAP_STEP_PRE);
+    }
+
     @Override
     public String getRule() {
         StringBuilder sb = new StringBuilder();
@@ -1,5 +1,7 @@
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.Zone;
@@ -33,6 +35,11 @@ public class BeginningOfYourEndStepTriggeredAbility extends TriggeredAbilityImpl
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.END_PHASE_PRE);
+    }
+
     @Override
     public String getRule() {
         if (optional) {
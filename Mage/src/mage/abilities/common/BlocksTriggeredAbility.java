@@ -27,6 +27,8 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.constants.Zone;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
@@ -64,6 +66,11 @@ public class BlocksTriggeredAbility extends TriggeredAbilityImpl<BlocksTriggered
         return false;
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.DECLARED_BLOCKERS);
+    }
+
     @Override
     public String getRule() {
         return "Whenever {this} blocks, " + super.getRule();
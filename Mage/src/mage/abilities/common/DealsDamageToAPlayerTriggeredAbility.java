@@ -28,6 +28,8 @@
 
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.constants.Zone;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
@@ -76,6 +78,11 @@ public class DealsDamageToAPlayerTriggeredAbility extends TriggeredAbilityImpl<D
         return false;
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public String getRule() {
         return "Whenever {this} deals damage to a player, " + super.getRule();
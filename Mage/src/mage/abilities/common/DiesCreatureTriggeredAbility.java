@@ -1,5 +1,7 @@
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.Zone;
@@ -77,6 +79,11 @@ public class DiesCreatureTriggeredAbility extends TriggeredAbilityImpl<DiesCreat
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public String getRule() {
         return "Whenever " + filter.getMessage() + " dies, " + super.getRule();
@@ -28,6 +28,9 @@
 
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
+import mage.game.events.GameEvent;
 import mage.constants.Zone;
 import mage.MageObject;
 import mage.abilities.effects.Effect;
@@ -60,6 +63,11 @@ public class DiesTriggeredAbility extends ZoneChangeTriggeredAbility<DiesTrigger
         return before != null && after != null && Zone.GRAVEYARD.match(after);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public DiesTriggeredAbility copy() {
         return new DiesTriggeredAbility(this);
@@ -28,6 +28,8 @@
 
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.Zone;
@@ -72,6 +74,11 @@ public class DrawCardOpponentTriggeredAbility extends TriggeredAbilityImpl<DrawC
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DREW_CARD);
+    }
+
     @Override
     public String getRule() {
         return new StringBuilder("Whenever an opponent draws a card, ").append(super.getRule()).toString();
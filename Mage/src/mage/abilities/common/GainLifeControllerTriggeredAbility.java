@@ -28,6 +28,8 @@
 
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.Zone;
@@ -76,6 +78,11 @@ public class GainLifeControllerTriggeredAbility extends TriggeredAbilityImpl<Gai
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.GAINED_LIFE);
+    }
+
     @Override
     public String getRule() {
         return new StringBuilder("Whenever you gain life, ").append(super.getRule()).toString() ;
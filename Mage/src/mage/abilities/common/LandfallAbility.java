@@ -28,6 +28,8 @@
 
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.constants.CardType;
 import mage.constants.Zone;
 import mage.abilities.TriggeredAbilityImpl;
@@ -66,6 +68,11 @@ public class LandfallAbility extends TriggeredAbilityImpl<LandfallAbility> {
         return false;
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public String getRule() {
         return "Landfall - Whenever a land enters the battlefield under your control, " + super.getRule();
@@ -28,6 +28,8 @@
 
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.constants.Zone;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
@@ -81,6 +83,11 @@ public class OnEventTriggeredAbility extends TriggeredAbilityImpl<OnEventTrigger
         return false;
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(eventType);
+    }
+
     @Override
     public String getRule() {
         return "At the " + eventName + ", " + super.getRule();
@@ -28,6 +28,8 @@
 
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.constants.Zone;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
@@ -77,6 +79,11 @@ public class SimpleTriggeredAbility extends TriggeredAbilityImpl<SimpleTriggered
         return false;
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(eventType);
+    }
+
     @Override
     public SimpleTriggeredAbility copy() {
         return new SimpleTriggeredAbility(this);
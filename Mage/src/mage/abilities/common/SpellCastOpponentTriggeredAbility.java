@@ -27,6 +27,8 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.SetTargetPointer;
@@ -105,6 +107,11 @@ public class SpellCastOpponentTriggeredAbility extends TriggeredAbilityImpl<Spel
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public String getRule() {
         return "Whenever an opponent casts " + filter.getMessage() + ", " + super.getRule();
@@ -94,7 +94,7 @@ public class ContinuousEffects implements Serializable {
     private final PlaneswalkerRedirectionEffect planeswalkerRedirectionEffect;
     private final AuraReplacementEffect auraReplacementEffect;
 
-    private final List<ContinuousEffect> previous = new ArrayList<>();
+    private final Set<ContinuousEffect> previous = new HashSet<>();
 
     // effect.id -> sourceId - which effect was added by which sourceId
     private final Map<UUID, UUID> sources = new HashMap<>();
@@ -195,24 +195,53 @@ public class ContinuousEffects implements Serializable {
         spliceCardEffects.removeInactiveEffects(game);
     }
 
+    /**
+     * Returns a hash of the active effects and the abilities they come from,
+     * independent of the order the effects were added in
+     *
+     * @return
+     */
+    public long getStateHash() {
+        // allEffectsLists of a copy also contains the as though effects, so the lists are added one by one
+        long hash = getStateHash(layeredEffects);
+        hash += getStateHash(replacementEffects);
+        hash += getStateHash(preventionEffects);
+        hash += getStateHash(requirementEffects);
+        hash += getStateHash(restrictionEffects);
+        hash += getStateHash(restrictionUntapNotMoreThanEffects);
+        for (ContinuousEffectsList<?> effectsList : asThoughEffectsMap.values()) {
+            hash += getStateHash(effectsList);
+        }
+        hash += getStateHash(costModificationEffects);
+        hash += getStateHash(spliceCardEffects);
+        return hash;
+    }
+
+    private long getStateHash(ContinuousEffectsList<?> effectsList) {
+        long hash = 0;
+        for (ContinuousEffect effect : effectsList) {
+            long effectHash = effect.getId().getMostSignificantBits() * 31 + effect.getId().getLeastSignificantBits();
+            Set<Ability> abilities = effectsList.getAbility(effect.getId());
+            if (abilities != null) {
+                for (Ability ability : abilities) {
+                    effectHash += ability.getId().getMostSignificantBits() * 31 + ability.getId().getLeastSignificantBits();
+                    if (ability.getSourceId() != null) {
+                        effectHash += ability.getSourceId().getLeastSignificantBits() * 17;
+                    }
+                }
+            }
+            // spread the bits, so the sum of several effects doesn't cancel out
+            effectHash *= 0x9e3779b97f4a7c15L;
+            hash += effectHash ^ (effectHash >>> 29);
+        }
+        return hash;
+    }
+
     public List<ContinuousEffect> getLayeredEffects(Game game) {
         List<ContinuousEffect> layerEffects = new ArrayList<>();
         for (ContinuousEffect effect: layeredEffects) {
-            switch (effect.getDuration()) {
-                case WhileOnBattlefield:
-                case WhileOnStack:
-                case WhileInGraveyard:
-                    HashSet<Ability> abilities = layeredEffects.getAbility(effect.getId());
-                    for (Ability ability: abilities) {
-                        // If e.g. triggerd abilities (non static) created the effect, the ability must not be in usable zone (e.g. Unearth giving Haste effect)
-                        if (!(ability instanceof StaticAbility) || ability.isInUseableZone(game, null, false)) {
-                            layerEffects.add(effect);
-                            break;
-                        }
-                    }
-                    break;
-                default:
-                    layerEffects.add(effect);
+            if (isLayeredEffectActive(effect, game)) {
+                layerEffects.add(effect);
             }
         }
 
@@ -222,6 +251,24 @@ public class ContinuousEffects implements Serializable {
         return layerEffects;
     }
 
+    private boolean isLayeredEffectActive(ContinuousEffect effect, Game game) {
+        switch (effect.getDuration()) {
+            case WhileOnBattlefield:
+            case WhileOnStack:
+            case WhileInGraveyard:
+                HashSet<Ability> abilities = layeredEffects.getAbility(effect.getId());
+                for (Ability ability: abilities) {
+                    // If e.g. triggerd abilities (non static) created the effect, the ability must not be in usable zone (e.g. Unearth giving Haste effect)
+                    if (!(ability instanceof StaticAbility) || ability.isInUseableZone(game, null, false)) {
+                        return true;
+                    }
+                }
+                return false;
+            default:
+                return true;
+        }
+    }
+
     /**
      * Initially effect timestamp is set when game starts in game.loadCard method.
      * After that timestamp should be updated whenever effect becomes "actual" meaning it becomes turned on
@@ -736,7 +783,9 @@ public class ContinuousEffects implements Serializable {
             done = true;
             layer = filterLayeredEffects(layerEffects, Layer.AbilityAddingRemovingEffects_6);
             for (ContinuousEffect effect: layer) {
-                if (layerEffects.contains(effect)) {
+                // an effect applied before in this pass can switch off the next one (eg. if "Turn to Frog" removes abilities),
+                // so only the effect to apply is checked again instead of rebuilding the whole list after each applied effect
+                if (isLayeredEffectActive(effect, game)) {
                     List<Ability> appliedAbilities = appliedEffects.get(effect);
                     HashSet<Ability> abilities = layeredEffects.getAbility(effect.getId());
                     for (Ability ability : abilities) {
@@ -748,12 +797,13 @@ public class ContinuousEffects implements Serializable {
                             appliedAbilities.add(ability);
                             effect.apply(Layer.AbilityAddingRemovingEffects_6, SubLayer.NA, ability, game);
                             done = false;
-                            // list must be updated after each applied effect (eg. if "Turn to Frog" removes abilities)
-                            layerEffects = getLayeredEffects(game);
                         }
                     }
                 }
             }
+            if (!done) {
+                layerEffects = getLayeredEffects(game);
+            }
         }
         
         layer = filterLayeredEffects(layerEffects, Layer.PTChangingEffects_7);
@@ -924,6 +974,10 @@ public class ContinuousEffects implements Serializable {
     public boolean existRequirementEffects() {
         return !requirementEffects.isEmpty();
     }
+
+    public boolean existCostModificationEffects() {
+        return !costModificationEffects.isEmpty();
+    }
 }
 class TimestampSorter implements Comparator<ContinuousEffect> {
     @Override
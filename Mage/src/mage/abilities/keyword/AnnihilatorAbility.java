@@ -43,6 +43,8 @@ import mage.players.Player;
 import mage.target.Target;
 import mage.target.common.TargetControlledPermanent;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -77,6 +79,11 @@ public class AnnihilatorAbility extends TriggeredAbilityImpl<AnnihilatorAbility>
         return false;
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.ATTACKER_DECLARED);
+    }
+
     @Override
     public String getRule() {
         return "Annihilator " + count;
@@ -28,6 +28,8 @@
 
 package mage.abilities.keyword;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.constants.Duration;
 import mage.constants.Zone;
 import mage.abilities.TriggeredAbilityImpl;
@@ -67,6 +69,11 @@ public class ExaltedAbility extends TriggeredAbilityImpl<ExaltedAbility> {
         return false;
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.DECLARED_ATTACKERS);
+    }
+
     @Override
     public String getRule() {
         return "Exalted";
@@ -28,6 +28,8 @@
 
 package mage.abilities.keyword;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.SpellAbility;
 import mage.abilities.TriggeredAbilityImpl;
@@ -75,6 +77,11 @@ public class HeroicAbility extends TriggeredAbilityImpl<HeroicAbility> {
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     private boolean checkSpell(Spell spell, Game game) {
         if (spell != null) {
             SpellAbility sa = spell.getSpellAbility();
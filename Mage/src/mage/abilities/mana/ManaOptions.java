@@ -29,6 +29,7 @@
 package mage.abilities.mana;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import mage.Mana;
 import mage.game.Game;
@@ -72,6 +73,7 @@ public class ManaOptions extends ArrayList<Mana> {
                         this.add(newMana);
                     }
                 }
+                removeDominatedOptions();
             }
         }
     }
@@ -115,6 +117,7 @@ public class ManaOptions extends ArrayList<Mana> {
                         }
                     }
                 }
+                removeDominatedOptions();
             }
         }
     }
@@ -151,6 +154,40 @@ public class ManaOptions extends ArrayList<Mana> {
         }
     }
 
+    /**
+     * Removes duplicate options and options another option includes, so the
+     * number of options grows with the distinct color mixes instead of
+     * doubling with every source that can produce more than one color.
+     * Only use this for available mana, for cost options it would drop the
+     * cheaper ones.
+     * An option with a negative amount (left over by a mana ability with a
+     * cost) never removes another option, but it is removed itself if a
+     * non-negative option includes it.
+     */
+    public void removeDominatedOptions() {
+        if (size() < 2) {
+            return;
+        }
+        List<Mana> kept = new ArrayList<Mana>(size());
+        nextOption:
+        for (Mana mana: this) {
+            for (Iterator<Mana> it = kept.iterator(); it.hasNext();) {
+                Mana keptMana = it.next();
+                if (keptMana.includesMana(mana)) {
+                    continue nextOption;
+                }
+                if (mana.includesMana(keptMana)) {
+                    it.remove();
+                }
+            }
+            kept.add(mana);
+        }
+        if (kept.size() < size()) {
+            clear();
+            addAll(kept);
+        }
+    }
+
     public ManaOptions copy() {
         return new ManaOptions(this);
     }
@@ -33,7 +33,6 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Random;
-import mage.cards.repository.CardCriteria;
 import mage.cards.repository.CardInfo;
 import mage.cards.repository.CardRepository;
 import mage.constants.Rarity;
@@ -114,22 +113,13 @@ public abstract class ExpansionSet implements Serializable {
 
         List<CardInfo> common = getCommon();
 
-        CardCriteria criteria = new CardCriteria();
-        criteria.setCodes(this.code).rarities(Rarity.UNCOMMON).doubleFaced(false);
-        List<CardInfo> uncommon = CardRepository.instance.findCards(criteria);
+        List<CardInfo> uncommon = CardRepository.instance.findCards(this.code, Rarity.UNCOMMON, false);
+        List<CardInfo> rare = CardRepository.instance.findCards(this.code, Rarity.RARE, false);
+        List<CardInfo> mythic = CardRepository.instance.findCards(this.code, Rarity.MYTHIC, false);
 
-        criteria = new CardCriteria();
-        criteria.setCodes(this.code).rarities(Rarity.RARE).doubleFaced(false);
-        List<CardInfo> rare = CardRepository.instance.findCards(criteria);
-
-        criteria = new CardCriteria();
-        criteria.setCodes(this.code).rarities(Rarity.MYTHIC).doubleFaced(false);
-        List<CardInfo> mythic = CardRepository.instance.findCards(criteria);
-     
         if (numBoosterLands > 0) {
-            criteria = new CardCriteria();
-            criteria.setCodes(!hasBasicLands && parentSet != null ? parentSet.code : this.code).rarities(Rarity.LAND).doubleFaced(false);
-            List<CardInfo> basicLand = CardRepository.instance.findCards(criteria);
+            String landSetCode = !hasBasicLands && parentSet != null ? parentSet.code : this.code;
+            List<CardInfo> basicLand = CardRepository.instance.findCards(landSetCode, Rarity.LAND, false);
             for (int i = 0; i < numBoosterLands; i++) {
                 addToBooster(booster, basicLand);
             }
@@ -214,18 +204,17 @@ public abstract class ExpansionSet implements Serializable {
      */
     private void addDoubleFace(List<Card> booster) {
         for (int i = 0; i < numBoosterDoubleFaced; i++) {
-            CardCriteria criteria = new CardCriteria();
-            criteria.setCodes(this.code).doubleFaced(true);
+            Rarity rarity;
             if (rnd.nextInt(15) < 10) {
-                criteria.rarities(Rarity.COMMON);
+                rarity = Rarity.COMMON;
             } else if (rnd.nextInt(5) < 4) {
-                criteria.rarities(Rarity.UNCOMMON);
+                rarity = Rarity.UNCOMMON;
             } else if (rnd.nextInt(8) < 7) {
-                criteria.rarities(Rarity.RARE);
+                rarity = Rarity.RARE;
             } else {
-                criteria.rarities(Rarity.MYTHIC);
+                rarity = Rarity.MYTHIC;
             }
-            List<CardInfo> doubleFacedCards = CardRepository.instance.findCards(criteria);
+            List<CardInfo> doubleFacedCards = CardRepository.instance.findCards(this.code, rarity, true);
             addToBooster(booster, doubleFacedCards);
         }
     }
@@ -251,9 +240,7 @@ public abstract class ExpansionSet implements Serializable {
     }
 
     public List<CardInfo> getCommon() {
-        CardCriteria criteria = new CardCriteria();
-        criteria.setCodes(this.code).rarities(Rarity.COMMON).doubleFaced(false);
-        return CardRepository.instance.findCards(criteria);
+        return CardRepository.instance.findCards(this.code, Rarity.COMMON, false);
     }
 
     public List<CardInfo> getSpecialCommon() {
@@ -13,9 +13,14 @@ class MockAbility extends AbilityImpl<MockAbility> {
         this.text = text;
     }
 
+    public MockAbility(final MockAbility ability) {
+        super(ability);
+        this.text = ability.text;
+    }
+
     @Override
     public MockAbility copy() {
-        return this;
+        return new MockAbility(this);
     }
 
     @Override
@@ -33,7 +33,9 @@ import com.j256.ormlite.table.DatabaseTable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import mage.constants.CardType;
 import mage.constants.Rarity;
@@ -53,6 +55,15 @@ import mage.constants.SpellAbilityType;
 public class CardInfo {
 
     private static final String SEPARATOR = "@@@";
+    private static final int MOCK_CARD_CACHE_SIZE = 4000;
+
+    // mock cards only show the card data, so new mock cards are copied from the last one built for the card class
+    private static final Map<String, MockCard> mockCards = new LinkedHashMap<String, MockCard>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, MockCard> eldest) {
+            return size() > MOCK_CARD_CACHE_SIZE;
+        }
+    };
     @DatabaseField
     protected String name;
     @DatabaseField(indexName = "name_cardNumber_index")
@@ -157,9 +168,20 @@ public class CardInfo {
     public Card getMockCard() {
         if (this.splitCard) {
             return new MockSplitCard(this);
-        } else {
-            return new MockCard(this);
         }
+        MockCard prototype;
+        synchronized (mockCards) {
+            prototype = mockCards.get(className);
+        }
+        if (prototype == null) {
+            prototype = new MockCard(this);
+            synchronized (mockCards) {
+                mockCards.put(className, prototype);
+            }
+        }
+        MockCard card = prototype.copy();
+        card.assignNewId();
+        return card;
     }
 
     public boolean usesVariousArt() {
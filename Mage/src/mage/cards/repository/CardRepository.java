@@ -39,11 +39,14 @@ import java.io.File;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import mage.constants.CardType;
+import mage.constants.Rarity;
 
 /**
  *
@@ -60,6 +63,9 @@ public enum CardRepository {
     private final Random random = new Random();
     private Dao<CardInfo, Object> cardDao;
     private Set<String> classNames;
+    // query results kept in memory, the cards only change when cards are added
+    private final Map<String, List<CardInfo>> cardsByName = new ConcurrentHashMap<>();
+    private final Map<String, List<CardInfo>> cardsBySet = new ConcurrentHashMap<>();
 
     private CardRepository() {
         File file = new File("db");
@@ -94,6 +100,8 @@ public enum CardRepository {
                         }
                     } catch (SQLException ex) {
                     }
+                    cardsByName.clear();
+                    cardsBySet.clear();
                     return null;
                 }
             });
@@ -251,14 +259,50 @@ public enum CardRepository {
     }
 
     public List<CardInfo> findCards(String name) {
-        try {
-            QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
-            queryBuilder.where().eq("name", new SelectArg(name));
+        List<CardInfo> cards = cardsByName.get(name);
+        if (cards == null) {
+            try {
+                QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
+                queryBuilder.where().eq("name", new SelectArg(name));
 
-            return cardDao.query(queryBuilder.prepare());
-        } catch (SQLException ex) {
+                cards = cardDao.query(queryBuilder.prepare());
+                cardsByName.put(name, cards);
+            } catch (SQLException ex) {
+                return new ArrayList<>();
+            }
         }
-        return new ArrayList<>();
+        return new ArrayList<>(cards);
+    }
+
+    /**
+     * Same result as findCards with a CardCriteria for the set code, rarity
+     * and doubleFaced, but the cards of a set are only queried once
+     *
+     * @param setCode
+     * @param rarity
+     * @param doubleFaced
+     * @return a new list that can be changed by the caller
+     */
+    public List<CardInfo> findCards(String setCode, Rarity rarity, boolean doubleFaced) {
+        List<CardInfo> setCards = cardsBySet.get(setCode);
+        if (setCards == null) {
+            try {
+                QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
+                queryBuilder.where().eq("setCode", new SelectArg(setCode)).and().eq("nightCard", false).and().eq("splitCardHalf", false);
+
+                setCards = cardDao.query(queryBuilder.prepare());
+                cardsBySet.put(setCode, setCards);
+            } catch (SQLException ex) {
+                return new ArrayList<>();
+            }
+        }
+        List<CardInfo> cards = new ArrayList<>();
+        for (CardInfo card : setCards) {
+            if (card.getRarity() == rarity && card.isDoubleFaced() == doubleFaced) {
+                cards.add(card);
+            }
+        }
+        return cards;
     }
 
     public List<CardInfo> findCards(CardCriteria criteria) {
@@ -29,12 +29,17 @@ package mage.cards.repository;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import mage.cards.Card;
 import mage.cards.CardImpl;
 import mage.cards.ExpansionSet;
 import mage.cards.Sets;
 import mage.cards.SplitCard;
 import mage.util.ClassScanner;
+import org.apache.log4j.Logger;
 
 /**
  *
@@ -42,6 +47,8 @@ import mage.util.ClassScanner;
  */
 public class CardScanner {
 
+    private static final Logger logger = Logger.getLogger(CardScanner.class);
+
     private static boolean scanned = false;
 
     public static void scan() {
@@ -57,21 +64,59 @@ public class CardScanner {
             ExpansionRepository.instance.add(new ExpansionInfo(set));
         }
 
-        for (Class c : ClassScanner.findClasses(packages, CardImpl.class)) {
-            if (!CardRepository.instance.cardExists(c.getCanonicalName())) {
-                Card card = CardImpl.createCard(c);
-                if (card != null) {
-                    cardsToAdd.add(new CardInfo(card));
-                    if (card instanceof SplitCard) {
-                        SplitCard splitCard = (SplitCard) card;
-                        cardsToAdd.add(new CardInfo(splitCard.getLeftHalfCard()));
-                        cardsToAdd.add(new CardInfo(splitCard.getRightHalfCard()));
+        // only card classes that are not in the database yet are loaded,
+        // nested classes (effects, tokens) can't be cards
+        List<String> missingClassNames = new ArrayList<String>();
+        for (String className : ClassScanner.findClassNames(packages)) {
+            if (className.indexOf('$') < 0 && !CardRepository.instance.cardExists(className)) {
+                missingClassNames.add(className);
+            }
+        }
+        if (missingClassNames.isEmpty()) {
+            return;
+        }
+
+        // loading and creating the cards is independent for each class
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            List<Future<List<CardInfo>>> results = new ArrayList<Future<List<CardInfo>>>();
+            for (final String className : missingClassNames) {
+                results.add(executor.submit(new Callable<List<CardInfo>>() {
+                    @Override
+                    public List<CardInfo> call() {
+                        return createCardInfos(className);
                     }
+                }));
+            }
+            for (Future<List<CardInfo>> result : results) {
+                try {
+                    cardsToAdd.addAll(result.get());
+                } catch (Exception ex) {
+                    logger.error("Error scanning cards", ex);
                 }
             }
+        } finally {
+            executor.shutdown();
         }
         if (!cardsToAdd.isEmpty()) {
             CardRepository.instance.addCards(cardsToAdd);
         }
     }
+
+    private static List<CardInfo> createCardInfos(String className) {
+        List<CardInfo> cardInfos = new ArrayList<CardInfo>();
+        Class<?> c = ClassScanner.loadClass(className, CardImpl.class);
+        if (c != null) {
+            Card card = CardImpl.createCard(c);
+            if (card != null) {
+                cardInfos.add(new CardInfo(card));
+                if (card instanceof SplitCard) {
+                    SplitCard splitCard = (SplitCard) card;
+                    cardInfos.add(new CardInfo(splitCard.getLeftHalfCard()));
+                    cardInfos.add(new CardInfo(splitCard.getRightHalfCard()));
+                }
+            }
+        }
+        return cardInfos;
+    }
 }
@@ -37,7 +37,6 @@ import mage.cards.SplitCard;
 import mage.filter.predicate.ObjectPlayer;
 import mage.filter.predicate.ObjectPlayerPredicate;
 import mage.filter.predicate.ObjectSourcePlayer;
-import mage.filter.predicate.Predicates;
 import mage.game.Game;
 
 /**
@@ -88,7 +87,10 @@ public class FilterCard extends FilterObject<Card> {
             return false;
         }
         
-        return Predicates.and(extraPredicates).apply(new ObjectPlayer(card, playerId), game);
+        if (extraPredicates.isEmpty()) {
+            return true;
+        }
+        return matchAll(extraPredicates, new ObjectPlayer(card, playerId), game);
     }
 
     public boolean match(Card card, UUID sourceId, UUID playerId, Game game) {
@@ -96,7 +98,10 @@ public class FilterCard extends FilterObject<Card> {
             return false;
         }
 
-        return Predicates.and(extraPredicates).apply(new ObjectSourcePlayer(card, sourceId, playerId), game);
+        if (extraPredicates.isEmpty()) {
+            return true;
+        }
+        return matchAll(extraPredicates, new ObjectSourcePlayer(card, sourceId, playerId), game);
     }
 
     public void add(ObjectPlayerPredicate predicate) {
@@ -31,7 +31,15 @@ package mage.filter;
 import java.util.ArrayList;
 import java.util.List;
 import mage.filter.predicate.Predicate;
-import mage.filter.predicate.Predicates;
+import mage.filter.predicate.mageobject.CardIdPredicate;
+import mage.filter.predicate.mageobject.CardTypePredicate;
+import mage.filter.predicate.mageobject.ColorPredicate;
+import mage.filter.predicate.mageobject.ColorlessPredicate;
+import mage.filter.predicate.mageobject.MonocoloredPredicate;
+import mage.filter.predicate.mageobject.MulticoloredPredicate;
+import mage.filter.predicate.mageobject.NamePredicate;
+import mage.filter.predicate.mageobject.SubtypePredicate;
+import mage.filter.predicate.mageobject.SupertypePredicate;
 import mage.game.Game;
 
 /**
@@ -44,6 +52,8 @@ public abstract class FilterImpl<E> implements Filter<E> {
 
     protected List<Predicate<Object>> predicates = new ArrayList<>();
     protected String message;
+    // the predicates in the order they are checked, built again after a predicate was added
+    private transient volatile List<Predicate<Object>> matchOrder;
 
     @Override
     public abstract FilterImpl<E> copy();
@@ -59,12 +69,70 @@ public abstract class FilterImpl<E> implements Filter<E> {
 
     @Override
     public boolean match(E e, Game game) {
-        return Predicates.and(predicates).apply(e, game);
+        List<Predicate<Object>> order = matchOrder;
+        if (order == null) {
+            order = getMatchOrder();
+            matchOrder = order;
+        }
+        return matchAll(order, e, game);
     }
 
     @Override
     public final void add(Predicate predicate) {
         predicates.add(predicate);
+        matchOrder = null;
+    }
+
+    /**
+     * Predicates only return a result, so they can be checked in any order.
+     * The ones that only look at the object's characteristics are checked
+     * first, so most objects are rejected before the game has to be asked.
+     *
+     * @return
+     */
+    private List<Predicate<Object>> getMatchOrder() {
+        List<Predicate<Object>> order = new ArrayList<>(predicates.size());
+        for (Predicate<Object> predicate: predicates) {
+            if (isCharacteristicPredicate(predicate)) {
+                order.add(predicate);
+            }
+        }
+        for (Predicate<Object> predicate: predicates) {
+            if (!isCharacteristicPredicate(predicate)) {
+                order.add(predicate);
+            }
+        }
+        return order;
+    }
+
+    private static boolean isCharacteristicPredicate(Predicate predicate) {
+        return predicate instanceof CardTypePredicate
+                || predicate instanceof SubtypePredicate
+                || predicate instanceof SupertypePredicate
+                || predicate instanceof ColorPredicate
+                || predicate instanceof ColorlessPredicate
+                || predicate instanceof MonocoloredPredicate
+                || predicate instanceof MulticoloredPredicate
+                || predicate instanceof NamePredicate
+                || predicate instanceof CardIdPredicate;
+    }
+
+    /**
+     * Same as Predicates.and(predicates).apply(object, game) without copying the
+     * predicates for every check.
+     *
+     * @param predicates
+     * @param object
+     * @param game
+     * @return
+     */
+    protected static boolean matchAll(List<? extends Predicate> predicates, Object object, Game game) {
+        for (int i = 0; i < predicates.size(); i++) {
+            if (!predicates.get(i).apply(object, game)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
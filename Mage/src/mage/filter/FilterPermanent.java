@@ -34,7 +34,6 @@ import java.util.UUID;
 import mage.filter.predicate.ObjectPlayer;
 import mage.filter.predicate.ObjectPlayerPredicate;
 import mage.filter.predicate.ObjectSourcePlayer;
-import mage.filter.predicate.Predicates;
 import mage.filter.predicate.mageobject.SubtypePredicate;
 import mage.game.Game;
 import mage.game.permanent.Permanent;
@@ -69,7 +68,10 @@ public class FilterPermanent extends FilterObject<Permanent> {
             return false;
         }
 
-        return Predicates.and(extraPredicates).apply(new ObjectSourcePlayer(permanent, sourceId, playerId), game);
+        if (extraPredicates.isEmpty()) {
+            return true;
+        }
+        return matchAll(extraPredicates, new ObjectSourcePlayer(permanent, sourceId, playerId), game);
     }
 
     public void add(ObjectPlayerPredicate predicate) {
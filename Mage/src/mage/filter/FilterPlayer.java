@@ -34,7 +34,6 @@ import java.util.UUID;
 import mage.filter.predicate.ObjectPlayer;
 import mage.filter.predicate.ObjectPlayerPredicate;
 import mage.filter.predicate.ObjectSourcePlayer;
-import mage.filter.predicate.Predicates;
 import mage.game.Game;
 import mage.players.Player;
 
@@ -69,7 +68,10 @@ public class FilterPlayer extends FilterImpl<Player> {
             return false;
         }
 
-        return Predicates.and(extraPredicates).apply(new ObjectSourcePlayer(player, sourceId, playerId), game);
+        if (extraPredicates.isEmpty()) {
+            return true;
+        }
+        return matchAll(extraPredicates, new ObjectSourcePlayer(player, sourceId, playerId), game);
     }
 
     @Override
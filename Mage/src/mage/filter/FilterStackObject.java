@@ -33,7 +33,6 @@ import java.util.List;
 import java.util.UUID;
 import mage.filter.predicate.ObjectPlayer;
 import mage.filter.predicate.ObjectPlayerPredicate;
-import mage.filter.predicate.Predicates;
 import mage.game.Game;
 import mage.game.permanent.Permanent;
 import mage.game.stack.StackObject;
@@ -64,7 +63,10 @@ public class FilterStackObject<T extends StackObject> extends FilterObject<T> {
             return false;
         }
 
-        return Predicates.and(extraPredicates).apply(new ObjectPlayer(stackObject, playerId), game);
+        if (extraPredicates.isEmpty()) {
+            return true;
+        }
+        return matchAll(extraPredicates, new ObjectPlayer(stackObject, playerId), game);
     }
 
     public void add(ObjectPlayerPredicate predicate) {
@@ -27,6 +27,7 @@
  */
 package mage.filter.predicate.other;
 
+import java.util.List;
 import mage.cards.Card;
 import mage.filter.predicate.Predicate;
 import mage.game.Game;
@@ -45,11 +46,24 @@ public class CardTextPredicate implements Predicate<Card> {
 
     @Override
     public boolean apply(Card input, Game game) {
+        return match(input.getName(), input.getRules(), input.getSubtype());
+    }
+
+    /**
+     * Checks the text against the given card data, so card infos can be checked
+     * without creating a card for them.
+     *
+     * @param name
+     * @param rules
+     * @param subtypes
+     * @return
+     */
+    public boolean match(String name, List<String> rules, List<String> subtypes) {
         if (text.isEmpty()) {
             return true;
         }
         // first check in card name
-        if (input.getName().toLowerCase().contains(text.toLowerCase())) {
+        if (name.toLowerCase().contains(text.toLowerCase())) {
             return true;
         }
 
@@ -59,14 +73,14 @@ public class CardTextPredicate implements Predicate<Card> {
             boolean found = false;
             if (!token.isEmpty()) {
                 // then try to find in rules
-                for (String rule : input.getRules()) {
+                for (String rule : rules) {
                     if (rule.toLowerCase().contains(token)) {
                         found = true;
                         break;
                     }
                 }
 
-                for (String subType : input.getSubtype()) {
+                for (String subType : subtypes) {
                     if (subType.equalsIgnoreCase(token)) {
                         found = true;
                         break;
@@ -321,9 +321,8 @@ public abstract class GameImpl<T extends GameImpl<T>> implements Game, Serializa
         if (objectId == null) {
             return null;
         }
-        MageObject object;
-        if (state.getBattlefield().containsPermanent(objectId)) {
-            object = state.getBattlefield().getPermanent(objectId);
+        MageObject object = state.getBattlefield().getPermanent(objectId);
+        if (object != null) {
             state.setZone(objectId, Zone.BATTLEFIELD);
             return object;
         }
@@ -337,20 +336,23 @@ public abstract class GameImpl<T extends GameImpl<T>> implements Game, Serializa
             }
         }
         
+        // commanders are found before their card, other command objects (emblems) only if there is no card
+        CommandObject command = null;
         for (CommandObject commandObject : state.getCommand()) {
-            if (commandObject instanceof Commander && commandObject.getId().equals(objectId)) {
-                return commandObject;
+            if (commandObject.getId().equals(objectId)) {
+                if (commandObject instanceof Commander) {
+                    return commandObject;
+                }
+                if (command == null) {
+                    command = commandObject;
+                }
             }
         }
-                
+
         object = getCard(objectId);
 
         if (object == null) {
-            for (CommandObject commandObject : state.getCommand()) {
-                if (commandObject.getId().equals(objectId)) {
-                    return commandObject;
-                }
-            }
+            return command;
         }
 
         return object;
@@ -440,8 +442,10 @@ public abstract class GameImpl<T extends GameImpl<T>> implements Game, Serializa
     @Override
     public void saveState(boolean bookmark) {
         if (!simulation && gameStates != null) {
-            if (bookmark || saveGame) {
+            if (saveGame) {
                 gameStates.save(state);
+            } else if (bookmark) {
+                gameStates.saveForRollback(state);
             }
         }
     }
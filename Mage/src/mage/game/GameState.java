@@ -35,6 +35,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import mage.MageObject;
 import mage.abilities.Abilities;
 import mage.abilities.AbilitiesImpl;
@@ -54,6 +55,7 @@ import mage.cards.Card;
 import mage.cards.SplitCard;
 import mage.choices.Choice;
 import mage.constants.Zone;
+import mage.counters.Counter;
 import mage.game.combat.Combat;
 import mage.game.combat.CombatGroup;
 import mage.game.command.Command;
@@ -65,6 +67,7 @@ import mage.game.stack.SpellStack;
 import mage.game.stack.StackObject;
 import mage.game.turn.Turn;
 import mage.game.turn.TurnMods;
+import mage.players.ManaPool;
 import mage.players.Player;
 import mage.players.PlayerList;
 import mage.players.Players;
@@ -85,6 +88,10 @@ import mage.watchers.Watchers;
 */
 public class GameState implements Serializable, Copyable<GameState> {
 
+    // 64 bit FNV-1a constants used by getStateHash
+    private static final long HASH_SEED = 0xcbf29ce484222325L;
+    private static final long HASH_PRIME = 0x100000001b3L;
+
     private final Players players;
     private final PlayerList playerList;
     private final Turn turn;
@@ -115,6 +122,10 @@ public class GameState implements Serializable, Copyable<GameState> {
     private Combat combat;
     private Map<String, Object> values = new HashMap<>();
     private Map<UUID, Zone> zones = new HashMap<>();
+    // counts how often the zones map was shared between states, it's only changed in place
+    // as long as it wasn't shared since this state got it (the copied state is never changed)
+    private AtomicLong zonesShared = new AtomicLong();
+    private long zonesStamp;
     private List<GameEvent> simultaneousEvents = new ArrayList<>();
 
     public GameState() {
@@ -136,16 +147,22 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public GameState(final GameState state) {
+        this(state, false);
+    }
+
+    /**
+     * @param state - the state to copy
+     * @param restorableOnly - if true only the parts of the state that are set back by
+     * {@link #restore(GameState)} are copied, all other parts are shared with the
+     * copied state and must not be used from the new object
+     */
+    private GameState(final GameState state, boolean restorableOnly) {
         this.players = state.players.copy();
-        this.playerList = state.playerList.copy();
         this.activePlayerId = state.activePlayerId;
         this.priorityPlayerId = state.priorityPlayerId;
-        this.turn = state.turn.copy();
         this.stack = state.stack.copy();
         this.command = state.command.copy();
         this.exile = state.exile.copy();
-        this.revealed = state.revealed.copy();
-        this.lookedAt.putAll(state.lookedAt);
         this.battlefield = state.battlefield.copy();
         this.turnNum = state.turnNum;
         this.extraTurn = state.extraTurn;
@@ -156,11 +173,7 @@ public class GameState implements Serializable, Copyable<GameState> {
             this.triggered.add(trigger.copy());
         }
         this.triggers = state.triggers.copy();
-        this.delayed = state.delayed.copy();
-        this.specialActions = state.specialActions.copy();
         this.combat = state.combat.copy();
-        this.turnMods = state.turnMods.copy();
-        this.watchers = state.watchers.copy();
         for (Map.Entry<String, Object> entry: state.values.entrySet()) {
             if (entry.getValue() instanceof Boolean) { // AI changed values of Boolean for cards like Wall of Roots TODO: copy other types than Boolean
                 this.values.put(entry.getKey(), Boolean.valueOf(((Boolean)entry.getValue()).toString()));
@@ -169,12 +182,41 @@ public class GameState implements Serializable, Copyable<GameState> {
             }
 
         }
-        this.zones.putAll(state.zones);
-        for (Map.Entry<UUID, Abilities<ActivatedAbility>> entry: state.otherAbilities.entrySet()) {
-            otherAbilities.put(entry.getKey(), entry.getValue().copy());
-        }
+        shareZones(state);
         this.paused = state.paused;
         this.simultaneousEvents.addAll(state.simultaneousEvents);
+        if (restorableOnly) {
+            this.playerList = state.playerList;
+            this.turn = state.turn;
+            this.revealed = state.revealed;
+            this.delayed = state.delayed;
+            this.specialActions = state.specialActions;
+            this.turnMods = state.turnMods;
+            this.watchers = state.watchers;
+        } else {
+            this.playerList = state.playerList.copy();
+            this.turn = state.turn.copy();
+            this.revealed = state.revealed.copy();
+            this.lookedAt.putAll(state.lookedAt);
+            this.delayed = state.delayed.copy();
+            this.specialActions = state.specialActions.copy();
+            this.turnMods = state.turnMods.copy();
+            this.watchers = state.watchers.copy();
+            for (Map.Entry<UUID, Abilities<ActivatedAbility>> entry: state.otherAbilities.entrySet()) {
+                otherAbilities.put(entry.getKey(), entry.getValue().copy());
+            }
+        }
+    }
+
+    /**
+     * Creates a copy that can only be used to roll back this state with
+     * {@link #restore(GameState)}. The turn, watchers, delayed triggered abilities
+     * and the other parts restore doesn't set back are not copied.
+     *
+     * @return the rollback copy of the state
+     */
+    public GameState copyForRollback() {
+        return new GameState(this, true);
     }
 
     @Override
@@ -285,6 +327,129 @@ public class GameState implements Serializable, Copyable<GameState> {
         return sb.toString();
     }
 
+    /**
+     * Returns a 64 bit hash of the information used by {@link #getValue(boolean, Game)}
+     * without building the complete value string. The permanents are combined
+     * independent of their order, so they don't have to be sorted.
+     *
+     * @param useHidden - include the cards in hand
+     * @param game
+     * @return hash of the game state
+     */
+    public long getStateHash(boolean useHidden, Game game) {
+        long hash = HASH_SEED;
+        hash = hash(hash, turnNum);
+        hash = hash(hash, turn.getPhaseType() == null ? -1 : turn.getPhaseType().ordinal());
+        hash = hash(hash, turn.getStepType() == null ? -1 : turn.getStepType().ordinal());
+        hash = hash(hash, activePlayerId);
+        hash = hash(hash, priorityPlayerId);
+
+        for (Player player: players.values()) {
+            hash = hash(hash, player.getId());
+            hash = hash(hash, player.isPassed() ? 1 : 0);
+            hash = hash(hash, player.getLife());
+            hash = hash(hash, player.getLandsPlayed());
+            long countersHash = 0;
+            for (Counter counter: player.getCounters().values()) {
+                countersHash += finish(hash(hash(HASH_SEED, counter.getName()), counter.getCount()));
+            }
+            hash = hash(hash, countersHash);
+            ManaPool pool = player.getManaPool();
+            hash = hash(hash, pool.getRed());
+            hash = hash(hash, pool.getGreen());
+            hash = hash(hash, pool.getBlue());
+            hash = hash(hash, pool.getWhite());
+            hash = hash(hash, pool.getBlack());
+            hash = hash(hash, pool.getColorless());
+            hash = hash(hash, pool.getConditionalMana().size());
+            hash = hash(hash, player.getHand().size());
+            if (useHidden) {
+                long handHash = 0;
+                for (UUID cardId: player.getHand()) {
+                    handHash += finish(hash(HASH_SEED, cardId));
+                }
+                hash = hash(hash, handHash);
+            }
+            hash = hash(hash, player.getLibrary().size());
+            for (Card card: player.getGraveyard().getCards(game)) {
+                hash = hash(hash, card.getName());
+            }
+        }
+
+        long permanentsHash = 0;
+        for (Permanent permanent: battlefield.getAllPermanents()) {
+            permanentsHash += finish(hash(HASH_SEED, permanent.getValue()));
+        }
+        hash = hash(hash, permanentsHash);
+        hash = hash(hash, effects.getStateHash());
+
+        for (StackObject spell: stack) {
+            hash = hash(hash, spell.getControllerId());
+            hash = hash(hash, spell.getName());
+            hash = hash(hash, spell.getStackAbility().toString());
+            for (Mode mode: spell.getStackAbility().getModes().values()) {
+                for (Target target: mode.getTargets()) {
+                    for (UUID targetId: target.getTargets()) {
+                        hash = hash(hash, targetId);
+                    }
+                }
+                for (Choice choice: mode.getChoices()) {
+                    hash = hash(hash, choice.getChoice());
+                }
+            }
+        }
+
+        for (ExileZone zone: exile.getExileZones()) {
+            hash = hash(hash, zone.getId());
+            for (UUID cardId: zone) {
+                hash = hash(hash, cardId);
+            }
+        }
+
+        for (CombatGroup group: combat.getGroups()) {
+            hash = hash(hash, group.getDefenderId());
+            for (UUID attackerId: group.getAttackers()) {
+                hash = hash(hash, attackerId);
+            }
+            for (UUID blockerId: group.getBlockers()) {
+                hash = hash(hash, blockerId);
+            }
+        }
+
+        return finish(hash);
+    }
+
+    private static long hash(long hash, long value) {
+        return (hash ^ value) * HASH_PRIME;
+    }
+
+    private static long hash(long hash, UUID value) {
+        if (value == null) {
+            return hash(hash, 0);
+        }
+        return hash(hash(hash, value.getMostSignificantBits()), value.getLeastSignificantBits());
+    }
+
+    private static long hash(long hash, String value) {
+        if (value == null) {
+            return hash(hash, 0);
+        }
+        for (int i = 0; i < value.length(); i++) {
+            hash = hash(hash, value.charAt(i));
+        }
+        return hash;
+    }
+
+    // spreads the bits, so hashes that are summed up don't cancel each other out
+    private static long finish(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb3fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
     public Players getPlayers() {
         return players;
     }
@@ -378,6 +543,10 @@ public class GameState implements Serializable, Copyable<GameState> {
         return this.watchers;
     }
 
+    public TriggeredAbilities getTriggers() {
+        return this.triggers;
+    }
+
     public SpecialActions getSpecialActions() {
         return this.specialActions;
     }
@@ -467,7 +636,25 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void setZone(UUID id, Zone zone) {
-        zones.put(id, zone);
+        if (zones.get(id) != zone) {
+            getOwnedZones().put(id, zone);
+        }
+    }
+
+    private Map<UUID, Zone> getOwnedZones() {
+        if (zonesStamp != zonesShared.get()) {
+            zones = new HashMap<>(zones);
+            zonesShared = new AtomicLong();
+            zonesStamp = 0;
+        }
+        return zones;
+    }
+
+    private void shareZones(GameState state) {
+        this.zones = state.zones;
+        this.zonesShared = state.zonesShared;
+        // a shared map is owned by neither of the states
+        this.zonesStamp = zonesShared.incrementAndGet() - 1;
     }
 
     public void restore(GameState state) {
@@ -479,7 +666,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.combat = state.combat;
         this.exile = state.exile;
         this.battlefield = state.battlefield;
-        this.zones = state.zones;
+        shareZones(state);
         this.values = state.values;
         for (Player copyPlayer: state.players.values()) {
             Player origPlayer = players.get(copyPlayer.getId());
@@ -681,7 +868,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         turnMods.clear();
         watchers.clear();
         values.clear();
-        zones.clear();
+        getOwnedZones().clear();
         simultaneousEvents.clear();
     }
 
@@ -31,7 +31,7 @@ package mage.game;
 import org.apache.log4j.Logger;
 
 import java.io.Serializable;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -43,7 +43,7 @@ public class GameStates implements Serializable {
     private static final transient Logger logger = Logger.getLogger(GameStates.class);
 
 //    private List<byte[]> states = new LinkedList<byte[]>();
-    private final List<GameState> states = new LinkedList<GameState>();
+    private final List<GameState> states = new ArrayList<GameState>();
 
     public void save(GameState gameState) {
 //        states.add(new Copier<GameState>().copyCompressed(gameState));
@@ -51,6 +51,17 @@ public class GameStates implements Serializable {
         logger.debug("Saved game state: " + states.size());
     }
 
+    /**
+     * Saves a state that is only used to roll the game back to (bookmarks).
+     * Such a state can't be used for replays.
+     *
+     * @param gameState
+     */
+    public void saveForRollback(GameState gameState) {
+        states.add(gameState.copyForRollback());
+        logger.debug("Saved game state for rollback: " + states.size());
+    }
+
     public int getSize() {
         return states.size();
     }
@@ -45,6 +45,8 @@ import mage.game.Game;
 public class Battlefield implements Serializable {
 
     private final Map<UUID, Permanent> field = new LinkedHashMap<>();
+    // permanents of each controller in battlefield order, rebuilt after permanents entered, left or changed control
+    private transient Map<UUID, List<Permanent>> byController;
 
     public Battlefield () {}
 
@@ -66,6 +68,35 @@ public class Battlefield implements Serializable {
 
     public void clear() {
         field.clear();
+        byController = null;
+    }
+
+    /**
+     * Has to be called when a permanent on the battlefield gets a new controller,
+     * so that the permanents are grouped by controller again
+     */
+    public void permanentControllerChanged() {
+        byController = null;
+    }
+
+    private List<Permanent> getControlledPermanents(UUID controllerId) {
+        if (byController == null) {
+            Map<UUID, List<Permanent>> controlled = new HashMap<>();
+            for (Permanent permanent: field.values()) {
+                List<Permanent> permanents = controlled.get(permanent.getControllerId());
+                if (permanents == null) {
+                    permanents = new ArrayList<>();
+                    controlled.put(permanent.getControllerId(), permanents);
+                }
+                permanents.add(permanent);
+            }
+            byController = controlled;
+        }
+        List<Permanent> permanents = byController.get(controllerId);
+        if (permanents == null) {
+            return Collections.emptyList();
+        }
+        return permanents;
     }
 
     /**
@@ -78,8 +109,8 @@ public class Battlefield implements Serializable {
      */
     public int countAll(FilterPermanent filter, UUID controllerId, Game game) {
         int count = 0;
-        for (Permanent permanent: field.values()) {
-            if (permanent.getControllerId().equals(controllerId) && filter.match(permanent, game)) {
+        for (Permanent permanent: getControlledPermanents(controllerId)) {
+            if (filter.match(permanent, game)) {
                 count++;
             }
         }
@@ -153,8 +184,8 @@ public class Battlefield implements Serializable {
      */
     public boolean contains(FilterPermanent filter, UUID controllerId, int num, Game game) {
         int count = 0;
-        for (Permanent permanent: field.values()) {
-            if (permanent.getControllerId().equals(controllerId) && filter.match(permanent, game)) {
+        for (Permanent permanent: getControlledPermanents(controllerId)) {
+            if (filter.match(permanent, game)) {
                 count++;
                 if (num == count) {
                     return true;
@@ -203,6 +234,7 @@ public class Battlefield implements Serializable {
 
     public void addPermanent(Permanent permanent) {
         field.put(permanent.getId(), permanent);
+        byController = null;
     }
 
     public Permanent getPermanent(UUID key) {
@@ -210,7 +242,9 @@ public class Battlefield implements Serializable {
     }
 
     public void removePermanent(UUID key) {
-        field.remove(key);
+        if (field.remove(key) != null) {
+            byController = null;
+        }
     }
 
     public boolean containsPermanent(UUID key) {
@@ -257,8 +291,8 @@ public class Battlefield implements Serializable {
      */
     public List<Permanent> getAllActivePermanents(UUID controllerId) {
         List<Permanent> active = new ArrayList<>();
-        for (Permanent perm: field.values()) {
-            if (perm.isPhasedIn() && perm.getControllerId().equals(controllerId)) {
+        for (Permanent perm: getControlledPermanents(controllerId)) {
+            if (perm.isPhasedIn()) {
                 active.add(perm);
             }
         }
@@ -315,8 +349,8 @@ public class Battlefield implements Serializable {
      */
     public List<Permanent> getAllActivePermanents(FilterPermanent filter, UUID controllerId, Game game) {
         List<Permanent> active = new ArrayList<>();
-        for (Permanent perm: field.values()) {
-            if (perm.isPhasedIn() && perm.getControllerId().equals(controllerId) && filter.match(perm, game)) {
+        for (Permanent perm: getControlledPermanents(controllerId)) {
+            if (perm.isPhasedIn() && filter.match(perm, game)) {
                 active.add(perm);
             }
         }
@@ -394,8 +428,8 @@ public class Battlefield implements Serializable {
 
     public List<Permanent> getPhasedIn(UUID controllerId) {
         List<Permanent> phasedIn = new ArrayList<>();
-        for (Permanent perm: field.values()) {
-            if (perm.getAbilities().containsKey(PhasingAbility.getInstance().getId()) && perm.isPhasedIn() && perm.getControllerId().equals(controllerId)) {
+        for (Permanent perm: getControlledPermanents(controllerId)) {
+            if (perm.getAbilities().containsKey(PhasingAbility.getInstance().getId()) && perm.isPhasedIn()) {
                 phasedIn.add(perm);
             }
         }
@@ -404,8 +438,8 @@ public class Battlefield implements Serializable {
 
     public List<Permanent> getPhasedOut(UUID controllerId) {
         List<Permanent> phasedOut = new ArrayList<>();
-        for (Permanent perm: field.values()) {
-            if (!perm.isPhasedIn() && perm.getControllerId().equals(controllerId)) {
+        for (Permanent perm: getControlledPermanents(controllerId)) {
+            if (!perm.isPhasedIn()) {
                 phasedOut.add(perm);
             }
         }
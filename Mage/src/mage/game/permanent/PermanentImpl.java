@@ -175,6 +175,9 @@ public abstract class PermanentImpl<T extends PermanentImpl<T>> extends CardImpl
         this.beforeResetControllerId = this.controllerId;
         this.controllerId = originalControllerId;
         controllerChanged = !controllerId.equals(beforeResetControllerId);
+        if (controllerChanged) {
+            game.getBattlefield().permanentControllerChanged();
+        }
         this.maxBlocks = 1;
         this.minBlockedBy = 1;
         this.maxBlockedBy = 0;
@@ -486,6 +489,7 @@ public abstract class PermanentImpl<T extends PermanentImpl<T>> extends CardImpl
                 this.controllerId = controllerId;
                 this.abilities.setControllerId(controllerId);
                 game.getContinuousEffects().setController(this.objectId, controllerId);
+                game.getBattlefield().permanentControllerChanged();
                 return true;
             }
         }
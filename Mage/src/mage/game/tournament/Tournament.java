@@ -67,6 +67,11 @@ public interface Tournament {
     boolean isDoneConstructing();
     void quit(UUID playerId);
     void leave(UUID playerId);
+    /**
+     * Called when a match of the running round is over, so the round can end
+     * without waiting for the next check
+     */
+    void matchEnded();
     void nextStep();
 
     void addTableEventListener(Listener<TableEvent> listener);
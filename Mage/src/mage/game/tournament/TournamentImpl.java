@@ -37,6 +37,8 @@ import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import mage.cards.Card;
 import mage.cards.ExpansionSet;
 import mage.cards.decks.Deck;
@@ -63,6 +65,9 @@ public abstract class TournamentImpl implements Tournament {
     protected List<Round> rounds = new CopyOnWriteArrayList<>();
     protected Map<UUID, TournamentPlayer> players = new HashMap<>();
     protected static Random rnd = new Random();
+    // deck construction of all tournaments shares the threads
+    private static final ExecutorService constructExecutor = Executors.newCachedThreadPool();
+    private static final long ROUND_CHECK_INTERVAL = 5000;
     protected String matchName;
     protected TournamentOptions options;
     protected TournamentType tournamentType;
@@ -151,6 +156,13 @@ public abstract class TournamentImpl implements Tournament {
         }
     }
 
+    @Override
+    public void matchEnded() {
+        synchronized (this) {
+            this.notifyAll();
+        }
+    }
+
     // can only be used, if tournament did not start yet?
     @Override
     public void leave(UUID playerId) {
@@ -205,13 +217,16 @@ public abstract class TournamentImpl implements Tournament {
             playMatch(pair);
         }
         updateResults(); // show points from byes
-        while (!round.isRoundOver()) {
-            try {
-                //TODO: improve this
-                Thread.sleep(1000);
-            } catch (InterruptedException ex) {
-                Logger.getLogger(TournamentImpl.class).warn("TournamentImpl playRound error ", ex);
-                break;
+        synchronized (this) {
+            while (!round.isRoundOver()) {
+                try {
+                    // woken up by matchEnded or quit, the timeout only guards
+                    // against a match end that wasn't reported
+                    this.wait(ROUND_CHECK_INTERVAL);
+                } catch (InterruptedException ex) {
+                    Logger.getLogger(TournamentImpl.class).warn("TournamentImpl playRound error ", ex);
+                    break;
+                }
             }
         }
         updateResults();
@@ -349,14 +364,14 @@ public abstract class TournamentImpl implements Tournament {
             for (final TournamentPlayer player: players.values()) {
 
                 player.setConstructing();
-                new Thread(
+                constructExecutor.execute(
                     new Runnable() {
                         @Override
                         public void run() {
                             player.getPlayer().construct(TournamentImpl.this, player.getDeck());
                         }
                     }
-                ).start();
+                );
             }
             synchronized(this) {
                 while (!isDoneConstructing()) {
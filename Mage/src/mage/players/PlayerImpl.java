@@ -1704,12 +1704,36 @@ public abstract class PlayerImpl<T extends PlayerImpl<T>> implements Player, Ser
     protected ManaOptions getManaAvailable(Game game) {
         ManaOptions available = new ManaOptions();
 
-        List<Permanent> manaPerms = this.getAvailableManaProducers(game);
+        // same result as getAvailableManaProducers and getAvailableManaProducersWithCost
+        // but the permanents and their mana abilities are checked only once
+        List<Permanent> manaPerms = new ArrayList<>();
+        List<Permanent> manaPermsWithCost = new ArrayList<>();
+        for (Permanent permanent: game.getBattlefield().getAllActivePermanents(playerId)) {
+            boolean canAdd = false;
+            boolean hasManaCosts = false;
+            for (ManaAbility ability: permanent.getAbilities().getManaAbilities(Zone.BATTLEFIELD)) {
+                boolean canActivate = ability.canActivate(playerId, game);
+                if (ability.getManaCosts().isEmpty()) {
+                    if (canActivate) {
+                        canAdd = true;
+                    }
+                } else {
+                    hasManaCosts = true;
+                    if (canActivate) {
+                        manaPermsWithCost.add(permanent);
+                        break;
+                    }
+                }
+            }
+            if (canAdd && !hasManaCosts) {
+                manaPerms.add(permanent);
+            }
+        }
+
         for (Permanent perm: manaPerms) {
             available.addMana(perm.getAbilities().getAvailableManaAbilities(Zone.BATTLEFIELD, game), game);
         }
 
-        List<Permanent> manaPermsWithCost = this.getAvailableManaProducersWithCost(game);
         for (Permanent perm: manaPermsWithCost) {
             available.addManaWithCost(perm.getAbilities().getAvailableManaAbilities(Zone.BATTLEFIELD, game), game);
         }
@@ -1753,14 +1777,27 @@ public abstract class PlayerImpl<T extends PlayerImpl<T>> implements Player, Ser
 
     protected boolean canPlay(ActivatedAbility ability, ManaOptions available, Game game) {
         if (!(ability instanceof ManaAbility) && ability.canActivate(playerId, game)) {
-            Ability copy = ability.copy();
-            game.getContinuousEffects().costModification(copy, game);
-
             Card card = game.getCard(ability.getSourceId());
+            boolean adjustingSourceCosts = false;
             if (card != null) {
                 for (Ability ability0 : card.getAbilities()) {
                     if (ability0 instanceof AdjustingSourceCosts) {
-                        ((AdjustingSourceCosts)ability0).adjustCosts(copy, game);
+                        adjustingSourceCosts = true;
+                        break;
+                    }
+                }
+            }
+
+            // the costs are modified on a copy, so only copy the ability if something can modify them
+            Ability copy = ability;
+            if (adjustingSourceCosts || game.getContinuousEffects().existCostModificationEffects()) {
+                copy = ability.copy();
+                game.getContinuousEffects().costModification(copy, game);
+                if (adjustingSourceCosts) {
+                    for (Ability ability0 : card.getAbilities()) {
+                        if (ability0 instanceof AdjustingSourceCosts) {
+                            ((AdjustingSourceCosts)ability0).adjustCosts(copy, game);
+                        }
                     }
                 }
             }
@@ -35,7 +35,9 @@ import java.net.URLDecoder;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.TreeSet;
 import java.util.jar.JarEntry;
 import java.util.jar.JarInputStream;
@@ -48,6 +50,41 @@ public class ClassScanner {
 
     public static List<Class> findClasses(List<String> packages, Class<?> type) {
         List<Class> cards = new ArrayList<Class>();
+        for (String className : findClassNames(packages)) {
+            Class<?> clazz = loadClass(className, type);
+            if (clazz != null) {
+                cards.add(clazz);
+            }
+        }
+        return cards;
+    }
+
+    /**
+     * Loads a class found by findClassNames
+     *
+     * @param className
+     * @param type
+     * @return the class or null if it can't be loaded or is not of the given type
+     */
+    public static Class<?> loadClass(String className, Class<?> type) {
+        try {
+            Class<?> clazz = Class.forName(className);
+            if (type.isAssignableFrom(clazz)) {
+                return clazz;
+            }
+        } catch (ClassNotFoundException ex) {
+        }
+        return null;
+    }
+
+    /**
+     * Lists the names of all classes in the given packages without loading them
+     *
+     * @param packages
+     * @return binary class names
+     */
+    public static List<String> findClassNames(List<String> packages) {
+        List<String> classNames = new ArrayList<String>();
         try {
             ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
             assert classLoader != null;
@@ -71,42 +108,37 @@ public class ClassScanner {
             }
 
             for (String filePath : dirs.keySet()) {
-                cards.addAll(findClasses(new File(filePath), dirs.get(filePath), type));
+                classNames.addAll(findClassNames(new File(filePath), dirs.get(filePath)));
             }
 
+            Set<String> packageSet = new HashSet<String>(packages);
             for (String filePath : jars) {
                 File file = new File(URLDecoder.decode(filePath, "UTF-8"));
-                cards.addAll(findClassesInJar(file, packages, type));
+                classNames.addAll(findClassNamesInJar(file, packageSet));
             }
         } catch (IOException ex) {
         }
-        return cards;
+        return classNames;
     }
 
-    private static List<Class> findClasses(File directory, String packageName, Class<?> type) {
-        List<Class> cards = new ArrayList<Class>();
+    private static List<String> findClassNames(File directory, String packageName) {
+        List<String> classNames = new ArrayList<String>();
         if (!directory.exists()) {
-            return cards;
+            return classNames;
         }
 
         for (File file : directory.listFiles()) {
             if (file.getName().endsWith(".class")) {
-                try {
-                    Class<?> clazz = Class.forName(packageName + '.' + file.getName().substring(0, file.getName().length() - 6));
-                    if (type.isAssignableFrom(clazz)) {
-                        cards.add(clazz);
-                    }
-                } catch (ClassNotFoundException ex) {
-                }
+                classNames.add(packageName + '.' + file.getName().substring(0, file.getName().length() - 6));
             }
         }
-        return cards;
+        return classNames;
     }
 
-    private static List<Class> findClassesInJar(File file, List<String> packages, Class<?> type) {
-        List<Class> cards = new ArrayList<Class>();
+    private static List<String> findClassNamesInJar(File file, Set<String> packages) {
+        List<String> classNames = new ArrayList<String>();
         if (!file.exists()) {
-            return cards;
+            return classNames;
         }
         JarInputStream jarFile = null;
         try {
@@ -121,14 +153,7 @@ public class ClassScanner {
                     int packageNameEnd = className.lastIndexOf('.');
                     String packageName = packageNameEnd != -1 ? className.substring(0, packageNameEnd) : "";
                     if (packages.contains(packageName)) {
-                        Class<?> clazz;
-                        try {
-                            clazz = Class.forName(className);
-                            if (type.isAssignableFrom(clazz)) {
-                                cards.add(clazz);
-                            }
-                        } catch (ClassNotFoundException ex) {
-                        }
+                        classNames.add(className);
                     }
                 }
             }
@@ -139,6 +164,6 @@ public class ClassScanner {
             } catch (IOException ex) {
             }
         }
-        return cards;
+        return classNames;
     }
 }
@@ -29,6 +29,7 @@
 package mage.watchers;
 
 import java.io.Serializable;
+import java.util.Set;
 import java.util.UUID;
 import mage.game.Game;
 import mage.game.events.GameEvent;
@@ -45,6 +46,15 @@ public interface Watcher<T extends Watcher<T>> extends Serializable {
     void setSourceId(UUID sourceId);
     String getKey();
     void watch(GameEvent event, Game game);
+
+    /**
+     * Returns the types of the events the watcher reacts to.
+     * The watcher is only called for events of these types.
+     *
+     * @return the event types or null if the watcher has to watch all events
+     */
+    Set<GameEvent.EventType> getEventTypes();
+
     boolean conditionMet();
     void reset();
 
@@ -28,8 +28,10 @@
 
 package mage.watchers;
 
+import java.util.Set;
 import java.util.UUID;
 import mage.constants.WatcherScope;
+import mage.game.events.GameEvent;
 
 /**
  *
@@ -91,6 +93,11 @@ public abstract class WatcherImpl<T extends WatcherImpl<T>> implements Watcher<T
         return key;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return null;
+    }
+
     @Override
     public boolean conditionMet() {
         return condition;
@@ -28,8 +28,12 @@
 
 package mage.watchers;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import mage.game.Game;
 import mage.game.events.GameEvent;
@@ -40,11 +44,18 @@ import mage.game.events.GameEvent;
  */
 public class Watchers extends HashMap<String, Watcher> {
 
+    // the watchers by the event types they react to
+    private final Map<GameEvent.EventType, List<Watcher>> eventTypeWatchers = new EnumMap<GameEvent.EventType, List<Watcher>>(GameEvent.EventType.class);
+    // the watchers that don't define their event types and have to watch all events
+    private final List<Watcher> allEventsWatchers = new ArrayList<Watcher>();
+
     public Watchers() {}
 
     public Watchers(final Watchers watchers) {
         for (Map.Entry<String, Watcher> entry: watchers.entrySet()) {
-            this.put(entry.getKey(), entry.getValue().copy());
+            Watcher watcher = entry.getValue().copy();
+            this.put(entry.getKey(), watcher);
+            addEventTypeWatcher(watcher);
         }
     }
 
@@ -55,15 +66,52 @@ public class Watchers extends HashMap<String, Watcher> {
     public void add(Watcher watcher) {
         if (!this.containsKey(watcher.getKey())) {
             this.put(watcher.getKey(), watcher);
+            addEventTypeWatcher(watcher);
+        }
+    }
+
+    private void addEventTypeWatcher(Watcher watcher) {
+        Set<GameEvent.EventType> eventTypes = watcher.getEventTypes();
+        if (eventTypes == null) {
+            allEventsWatchers.add(watcher);
+            return;
+        }
+        for (GameEvent.EventType eventType: eventTypes) {
+            List<Watcher> watchers = eventTypeWatchers.get(eventType);
+            if (watchers == null) {
+                watchers = new ArrayList<Watcher>();
+                eventTypeWatchers.put(eventType, watchers);
+            }
+            watchers.add(watcher);
         }
     }
 
+    /**
+     * Calls only the watchers that react to the type of the event
+     * and the watchers that don't define their event types.
+     *
+     * @param event
+     * @param game
+     */
     public void watch(GameEvent event, Game game) {
-        for (Watcher watcher: this.values()) {
+        List<Watcher> watchers = eventTypeWatchers.get(event.getType());
+        if (watchers != null) {
+            for (Watcher watcher: watchers) {
+                watcher.watch(event, game);
+            }
+        }
+        for (Watcher watcher: allEventsWatchers) {
             watcher.watch(event, game);
         }
     }
 
+    @Override
+    public void clear() {
+        super.clear();
+        eventTypeWatchers.clear();
+        allEventsWatchers.clear();
+    }
+
     public void reset() {
         for (Watcher watcher: this.values()) {
             watcher.reset();
@@ -32,6 +32,7 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.WatcherImpl;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -58,6 +59,11 @@ public class AttackedThisTurnWatcher extends WatcherImpl<AttackedThisTurnWatcher
             this.attackedThisTurnCreatures.add(event.getSourceId());
         }
     }
+
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ATTACKER_DECLARED);
+    }
     
     public Set<UUID> getAttackedThisTurnCreatures() {
         return this.attackedThisTurnCreatures;
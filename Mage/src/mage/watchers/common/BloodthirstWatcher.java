@@ -33,6 +33,8 @@ import mage.game.events.DamagedPlayerEvent;
 import mage.game.events.GameEvent;
 import mage.watchers.WatcherImpl;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -61,6 +63,11 @@ public class BloodthirstWatcher extends WatcherImpl<BloodthirstWatcher> {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public BloodthirstWatcher copy() {
         return new BloodthirstWatcher(this);
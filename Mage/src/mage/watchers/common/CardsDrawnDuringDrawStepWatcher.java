@@ -28,9 +28,11 @@
 
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.UUID;
 import mage.constants.PhaseStep;
 import mage.constants.WatcherScope;
@@ -79,6 +81,11 @@ public class CardsDrawnDuringDrawStepWatcher extends WatcherImpl<CardsDrawnDurin
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DREW_CARD);
+    }
+
     public int getAmountCardsDrawn(UUID playerId) {
         Integer amount = amountOfCardsDrawnThisTurn.get(playerId);
         if (amount != null) {
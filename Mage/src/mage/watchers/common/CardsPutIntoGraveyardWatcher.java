@@ -28,6 +28,7 @@
 
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -87,6 +88,11 @@ public class CardsPutIntoGraveyardWatcher extends WatcherImpl<CardsPutIntoGravey
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.UNTAP_STEP_PRE, GameEvent.EventType.ZONE_CHANGE);
+    }
+
     public int getAmountCardsPutToGraveyard(UUID playerId) {
         Integer amount = amountOfCardsThisTurn.get(playerId);
         if (amount != null) {
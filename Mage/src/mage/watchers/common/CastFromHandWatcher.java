@@ -1,5 +1,7 @@
 package mage.watchers.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.constants.WatcherScope;
 import mage.constants.Zone;
 import mage.game.Game;
@@ -26,6 +28,11 @@ public class CastFromHandWatcher extends WatcherImpl<CastFromHandWatcher> {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public CastFromHandWatcher copy() {
         return new CastFromHandWatcher(this);
@@ -29,7 +29,9 @@
 package mage.watchers.common;
 
 import java.util.*;
+import java.util.EnumSet;
 import java.util.Map.Entry;
+import java.util.Set;
 import mage.constants.WatcherScope;
 import mage.game.Game;
 import mage.game.events.GameEvent;
@@ -79,6 +81,11 @@ public class CastSpellLastTurnWatcher extends WatcherImpl<CastSpellLastTurnWatch
        }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public void reset() {
        amountOfSpellsCastOnPrevTurn.clear();
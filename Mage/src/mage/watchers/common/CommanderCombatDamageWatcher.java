@@ -27,8 +27,10 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObject;
 import mage.cards.Card;
@@ -96,6 +98,11 @@ public class CommanderCombatDamageWatcher extends WatcherImpl<CommanderCombatDam
         }
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.DAMAGED_PLAYER, EventType.ZONE_CHANGE);
+    }
+
     public void addCardInfoToCommander(Game game) {
         MageObject object = game.getPermanent(sourceId);
         if (object == null) {
@@ -34,7 +34,9 @@ import mage.game.events.GameEvent.EventType;
 import mage.watchers.WatcherImpl;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -68,6 +70,11 @@ public class DamagedByWatcher extends WatcherImpl<DamagedByWatcher> {
         }
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.DAMAGED_CREATURE);
+    }
+
     @Override
     public void reset() {
         super.reset();
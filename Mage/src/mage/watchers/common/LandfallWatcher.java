@@ -1,5 +1,7 @@
 package mage.watchers.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.constants.CardType;
 import mage.constants.WatcherScope;
 import mage.game.Game;
@@ -39,4 +41,9 @@ public class LandfallWatcher extends WatcherImpl<LandfallWatcher> {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
 }
@@ -28,6 +28,8 @@
 
 package mage.watchers.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.constants.CardType;
 import mage.constants.WatcherScope;
 import mage.constants.Zone;
@@ -64,6 +66,11 @@ public class MorbidWatcher extends WatcherImpl<MorbidWatcher> {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public MorbidWatcher copy() {
         return new MorbidWatcher(this);
@@ -28,9 +28,11 @@
 
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.UUID;
 import mage.constants.WatcherScope;
 import mage.game.Game;
@@ -80,6 +82,11 @@ public class PlayerGainedLifeWatcher extends WatcherImpl<PlayerGainedLifeWatcher
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.UNTAP_STEP_PRE, GameEvent.EventType.GAINED_LIFE);
+    }
+
     public int getLiveGained(UUID playerId) {
         Integer amount = amountOfLifeGainedThisTurn.get(playerId);
         if (amount != null) {
@@ -28,9 +28,11 @@
 
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.UUID;
 import mage.constants.WatcherScope;
 import mage.game.Game;
@@ -79,6 +81,11 @@ public class PlayerLostLifeWatcher extends WatcherImpl<PlayerLostLifeWatcher> {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.UNTAP_STEP_PRE, GameEvent.EventType.LOST_LIFE);
+    }
+
     public int getLiveLost(UUID playerId) {
         Integer amount = amountOfLifeLostThisTurn.get(playerId);
         if (amount != null) {
@@ -28,6 +28,8 @@
 
 package mage.watchers.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.keyword.SoulbondAbility;
 import mage.cards.Cards;
 import mage.cards.CardsImpl;
@@ -123,6 +125,11 @@ public class SoulbondWatcher extends WatcherImpl<SoulbondWatcher> {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public SoulbondWatcher copy() {
         return new SoulbondWatcher(this);
@@ -34,7 +34,9 @@ import mage.game.events.GameEvent.EventType;
 import mage.watchers.WatcherImpl;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -71,6 +73,11 @@ public class SourceDidDamageWatcher extends WatcherImpl<SourceDidDamageWatcher>
         }
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.DAMAGED_CREATURE, EventType.DAMAGED_PLANESWALKER, EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public void reset() {
         super.reset();